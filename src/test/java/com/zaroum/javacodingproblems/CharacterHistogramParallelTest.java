@@ -0,0 +1,265 @@
+package com.zaroum.javacodingproblems;
+
+import com.zaroum.javacodingproblems.CharacterHistogramTest.CharacterHistogram;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Character Histogram Parallel Tests
+ *
+ * Problem Description:
+ * Same question as {@link CountingDuplicateCharactersTest} - how many characters occur more than
+ * once - for documents of hundreds of megabytes, counted on every core of a ForkJoinPool.
+ *
+ * Examples:
+ * - countDuplicateCharacters("programming") → 3 (below the cutoff, counted on the calling thread)
+ * - countDuplicateCharacters(100 MB of English text) → the same result as one thread, faster
+ *
+ * Algorithm (per-worker partial histograms):
+ * 1. Below the sequential cutoff, count on the calling thread with its reusable histogram
+ * 2. Otherwise cut the string into one slice per worker (never more slices than cutoff-sized
+ *    pieces), moving a cut by one char when it would split a surrogate pair
+ * 3. Fork the slices as a balanced RecursiveAction tree; each leaf fills its own primitive
+ *    {@link CharacterHistogram} over its slice, without any shared state
+ * 4. Sum the partial histograms into the calling thread's histogram, visiting only the keys each
+ *    partial has seen, and count the keys above one
+ *
+ * Implementation Details:
+ * - Leaves never synchronize: each partial is written by exactly one task and read after the
+ *   join, which happens-after the task
+ * - Summing costs O(p * k) for p slices and k distinct characters, nothing next to O(n)
+ * - Partials are allocated per call (1 KB each for Latin-1 text), so one instance can be shared
+ *   between threads
+ *
+ * Time Complexity: O(n / p + p * k)
+ * Space Complexity: O(p * k) - One partial histogram per slice
+ */
+@DisplayName("Character Histogram Parallel Tests")
+public class CharacterHistogramParallelTest {
+
+    /**
+     * Fork/join character counting with one primitive histogram per slice.
+     */
+    static final class ParallelCharacterHistogram {
+
+        static final int DEFAULT_SEQUENTIAL_CUTOFF = 1 << 20;
+
+        private final ForkJoinPool pool;
+        private final int sequentialCutoff;
+
+        ParallelCharacterHistogram() {
+            this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_CUTOFF);
+        }
+
+        ParallelCharacterHistogram(ForkJoinPool pool, int sequentialCutoff) {
+            if (sequentialCutoff < 1) {
+                throw new IllegalArgumentException("sequentialCutoff must be >= 1 but was " + sequentialCutoff);
+            }
+            this.pool = Objects.requireNonNull(pool);
+            this.sequentialCutoff = sequentialCutoff;
+        }
+
+        long countDuplicateCharacters(String s) {
+            if (s == null || s.isEmpty()) {
+                return 0L;
+            }
+            return count(s).countKeysAbove(1);
+        }
+
+        /**
+         * @return the calling thread's histogram filled with the counts of s; valid until the
+         *         next use of {@link CharacterHistogram#threadLocal()} on this thread
+         */
+        CharacterHistogram count(CharSequence s) {
+            int slices = slices(s.length());
+            if (slices <= 1) {
+                return CharacterHistogram.threadLocal().add(s);
+            }
+            int[] bounds = new int[slices + 1];
+            for (int i = 1; i < slices; i++) {
+                int cut = (int) ((long) s.length() * i / slices);
+                if (Character.isHighSurrogate(s.charAt(cut - 1)) && Character.isLowSurrogate(s.charAt(cut))) {
+                    cut++;
+                }
+                bounds[i] = cut;
+            }
+            bounds[slices] = s.length();
+
+            CharacterHistogram[] partials = new CharacterHistogram[slices];
+            pool.invoke(new SliceAction(s, bounds, partials, 0, slices));
+
+            CharacterHistogram histogram = CharacterHistogram.threadLocal();
+            for (CharacterHistogram partial : partials) {
+                histogram.addAll(partial);
+            }
+            return histogram;
+        }
+
+        int slices(int length) {
+            int pieces = (int) ((length + (long) sequentialCutoff - 1) / sequentialCutoff);
+            return Math.min(pool.getParallelism(), pieces);
+        }
+
+        private static final class SliceAction extends RecursiveAction {
+
+            private final CharSequence s;
+            private final int[] bounds;
+            private final CharacterHistogram[] partials;
+            private final int from;
+            private final int to;
+
+            SliceAction(CharSequence s, int[] bounds, CharacterHistogram[] partials, int from, int to) {
+                this.s = s;
+                this.bounds = bounds;
+                this.partials = partials;
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute() {
+                if (to - from == 1) {
+                    partials[from] = new CharacterHistogram().add(s, bounds[from], bounds[from + 1]);
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                invokeAll(new SliceAction(s, bounds, partials, from, mid), new SliceAction(s, bounds, partials, mid, to));
+            }
+        }
+    }
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    /**
+     * Randomized differential test against the sequential histogram, with cutoffs small enough to
+     * cut between the two chars of surrogate pairs
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 26, 300, 65_536})
+    @DisplayName("Should match the sequential histogram on random text")
+    void shouldMatchSequentialHistogram(int alphabetSize) {
+        // Given
+        Random random = new Random(alphabetSize);
+
+        for (int round = 0; round < 200; round++) {
+            String input = randomText(random, random.nextInt(2_000), alphabetSize) + (round % 3 == 0 ? "😀a😀" : "");
+            int cutoff = 1 + random.nextInt(100);
+            CharacterHistogram expected = new CharacterHistogram().add(input);
+
+            // When
+            CharacterHistogram actual = new ParallelCharacterHistogram(pool, cutoff).count(input);
+
+            // Then
+            assertThat(actual.totalCount()).as("Total, alphabet %d, round %d", alphabetSize, round).isEqualTo(expected.totalCount());
+            assertThat(actual.distinctKeys()).as("Distinct, alphabet %d, round %d", alphabetSize, round).isEqualTo(expected.distinctKeys());
+            assertThat(actual.countKeysAbove(1)).as("Duplicates, alphabet %d, round %d", alphabetSize, round).isEqualTo(expected.countKeysAbove(1));
+            for (int codePoint : input.codePoints().distinct().toArray()) {
+                assertThat(actual.count(codePoint))
+                    .as("Count of U+%04X, alphabet %d, round %d", codePoint, alphabetSize, round)
+                    .isEqualTo(expected.count(codePoint));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should choose one slice per worker above the cutoff and stay sequential below it")
+    void shouldChooseSlicesFromCutoffAndParallelism() {
+        // Given
+        ParallelCharacterHistogram parallel = new ParallelCharacterHistogram(pool, 1_000);
+
+        // When & Then
+        assertThat(parallel.slices(1)).isEqualTo(1);
+        assertThat(parallel.slices(1_000)).isEqualTo(1);
+        assertThat(parallel.slices(1_001)).isEqualTo(2);
+        assertThat(parallel.slices(3_500)).isEqualTo(4);
+        assertThat(parallel.slices(Integer.MAX_VALUE)).isEqualTo(pool.getParallelism());
+    }
+
+    @Test
+    @DisplayName("Should handle edge cases and reject invalid cutoffs")
+    void shouldHandleEdgeCases() {
+        // Given
+        ParallelCharacterHistogram parallel = new ParallelCharacterHistogram(pool, 2);
+
+        // When & Then
+        assertThat(parallel.countDuplicateCharacters(null)).isZero();
+        assertThat(parallel.countDuplicateCharacters("")).isZero();
+        assertThat(parallel.countDuplicateCharacters("programming")).isEqualTo(3L);
+        assertThat(parallel.countDuplicateCharacters("😀😀")).isEqualTo(1L);
+        assertThat(new ParallelCharacterHistogram().countDuplicateCharacters("mississippi")).isEqualTo(3L);
+        assertThatThrownBy(() -> new ParallelCharacterHistogram(pool, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Scaling benchmark on a 64M-char document against the sequential histogram, with pools of 1,
+     * 2 and 4 workers (best of 3 runs each). Pools larger than the number of cores are not
+     * measured: their workers would only time-slice. Counting is memory-bound, so doublings can tie
+     * on SMT or throttled hosts; the timings of every pool are reported and only the largest pool
+     * is required to be clearly faster than the sequential histogram.
+     */
+    @Test
+    @DisplayName("Should beat the sequential histogram with the largest pool on a 64M-char document")
+    void shouldScaleWithWorkers() {
+        // Given
+        int cores = Runtime.getRuntime().availableProcessors();
+        assumeTrue(cores >= 2, "Scaling needs at least 2 cores, this machine has " + cores);
+        String input = randomText(new Random(21), 64_000_000, 96);
+        long expected = CharacterHistogram.threadLocal().add(input).countKeysAbove(1);
+
+        // When
+        long sequentialTime = Measurements.bestNanos(3,
+            () -> assertThat(CharacterHistogram.threadLocal().add(input).countKeysAbove(1)).isEqualTo(expected));
+        List<Long> parallelTimes = new ArrayList<>(); // index i holds the time with 2^i workers
+        StringBuilder timings = new StringBuilder(String.format("%d cores, sequential %d ms", cores, sequentialTime / 1_000_000));
+        for (int workers = 1; workers <= Math.min(4, cores); workers *= 2) {
+            ForkJoinPool workerPool = new ForkJoinPool(workers);
+            try {
+                ParallelCharacterHistogram parallel = new ParallelCharacterHistogram(workerPool, ParallelCharacterHistogram.DEFAULT_SEQUENTIAL_CUTOFF);
+                parallel.countDuplicateCharacters(input); // warm-up
+                long time = Measurements.bestNanos(3, () -> assertThat(parallel.countDuplicateCharacters(input)).isEqualTo(expected));
+                parallelTimes.add(time);
+                timings.append(String.format(", %d workers %d ms", workers, time / 1_000_000));
+            } finally {
+                workerPool.shutdown();
+            }
+        }
+
+        // Then
+        assertThat(parallelTimes.get(parallelTimes.size() - 1)).as(timings.toString()).isLessThan(sequentialTime * 4 / 5);
+    }
+
+    private static String randomText(Random random, int length, int alphabetSize) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            char c = (char) (' ' + random.nextInt(alphabetSize));
+            chars[i] = Character.isSurrogate(c) ? '?' : c;
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,518 @@
+package com.zaroum.javacodingproblems;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Character Histogram Kernel Tests
+ *
+ * Problem Description:
+ * Count the occurrences of every code point of a string without boxing, as a reusable kernel for
+ * {@link CountingDuplicateCharactersTest} and {@link ValidAnagramTest}, which used to build a
+ * Map<Character, Long> with groupingBy/counting on every call.
+ *
+ * Examples:
+ * - add("hello") → count('l') = 2, distinctKeys() = 4, countKeysAbove(1) = 1
+ * - add("listen"), removeAll("silent") → true and totalCount() = 0 (anagrams)
+ *
+ * Algorithm (adaptive dense/sparse counting):
+ * 1. Latin-1 code points (< 256) are counted in a dense int[256]
+ * 2. The rest of the BMP and supplementary code points (surrogate pairs) go to a sparse
+ *    open-addressing table ({@link SparseCodePointTable})
+ * 3. Once one call has seen DENSE_BMP_KEYS distinct BMP keys, their counts move to a dense
+ *    int[65536] that serves the BMP for the rest of the call; clear() keeps it only while calls
+ *    keep needing it, so a thread-local histogram that saw a little BMP text does not hold
+ *    256 KB for the life of its thread (a ForkJoin worker, say)
+ * 4. Every key is recorded once in a "touched" list when it is first counted, so queries and
+ *    clear() only visit keys that occur instead of whole tables; Latin-1 and BMP keys also get a
+ *    touched bit, so a count that removeAll brought back to zero is not recorded a second time
+ *
+ * Implementation Details:
+ * - Strings are walked by code point, so an emoji counts as one key; unpaired surrogates count as
+ *   their own char value
+ * - removeAll decrements and stops at the first count that would go negative, which answers
+ *   "is this a sub-multiset" and, with totalCount() == 0, "is this an anagram"
+ * - threadLocal() hands out a cleared per-thread instance so callers do not allocate per call;
+ *   an instance is not thread-safe and must not be used re-entrantly
+ *
+ * Time Complexity: O(n) to count, O(k) for queries and clear() where k is the number of distinct keys
+ * Space Complexity: O(1) for Latin-1 (1 KB), O(k) for up to DENSE_BMP_KEYS BMP keys and for
+ * supplementary keys, 264 KB while calls see more BMP keys than that
+ */
+@DisplayName("Character Histogram Kernel Tests")
+public class CharacterHistogramTest {
+
+    /**
+     * Reusable code point histogram with dense Latin-1/BMP tables and a sparse supplementary table.
+     */
+    static final class CharacterHistogram {
+
+        private static final int LATIN1_SIZE = 256;
+        private static final int BMP_SIZE = 1 << 16;
+        static final int DENSE_BMP_KEYS = 512; // distinct BMP keys in one call before int[65536] pays off
+        private static final ThreadLocal<CharacterHistogram> PER_THREAD = ThreadLocal.withInitial(CharacterHistogram::new);
+
+        private final int[] latin1 = new int[LATIN1_SIZE];
+        private final long[] latin1Touched = new long[LATIN1_SIZE / Long.SIZE];
+        private int[] bmp; // null while the BMP keys of a call fit the sparse table
+        private long[] bmpTouched;
+        private int bmpKeys; // distinct BMP keys since the last clear()
+        private final SparseCodePointTable sparse = new SparseCodePointTable(); // stale BMP keys once bmp is on
+
+        private int[] touched = new int[64];
+        private int touchedSize;
+        private long total;
+
+        /**
+         * @return this thread's histogram, cleared
+         */
+        static CharacterHistogram threadLocal() {
+            CharacterHistogram histogram = PER_THREAD.get();
+            histogram.clear();
+            return histogram;
+        }
+
+        CharacterHistogram add(CharSequence s) {
+            return add(s, 0, s.length());
+        }
+
+        /**
+         * Counts the code points of s[from, to); a surrogate pair split by {@code to} counts as two chars.
+         */
+        CharacterHistogram add(CharSequence s, int from, int to) {
+            for (int i = from; i < to; ) {
+                char c = s.charAt(i++);
+                if (c < LATIN1_SIZE) {
+                    if (latin1[c]++ == 0) {
+                        touchLatin1(c);
+                    }
+                } else if (!Character.isHighSurrogate(c) || i == to || !Character.isLowSurrogate(s.charAt(i))) {
+                    addBmp(c, 1);
+                } else {
+                    addSupplementary(Character.toCodePoint(c, s.charAt(i++)), 1);
+                }
+                total++;
+            }
+            return this;
+        }
+
+        /**
+         * Adds every count of other to this histogram.
+         */
+        CharacterHistogram addAll(CharacterHistogram other) {
+            for (int i = 0; i < other.touchedSize; i++) {
+                int key = other.touched[i];
+                int count = other.count(key);
+                if (key < LATIN1_SIZE) {
+                    if (latin1[key] == 0) {
+                        touchLatin1(key);
+                    }
+                    latin1[key] += count;
+                } else if (key < BMP_SIZE) {
+                    addBmp((char) key, count);
+                } else {
+                    addSupplementary(key, count);
+                }
+            }
+            total += other.total;
+            return this;
+        }
+
+        /**
+         * Decrements the counts of every code point of s.
+         *
+         * @return false as soon as s holds a code point more often than this histogram; the
+         *         histogram is then partially decremented
+         */
+        boolean removeAll(CharSequence s) {
+            for (int i = 0, length = s.length(); i < length; ) {
+                char c = s.charAt(i++);
+                // Check before decrementing: a count below zero would survive clear(), which only
+                // visits touched keys
+                if (c < LATIN1_SIZE) {
+                    if (latin1[c] == 0) {
+                        return false;
+                    }
+                    latin1[c]--;
+                } else if (!Character.isHighSurrogate(c) || i == length || !Character.isLowSurrogate(s.charAt(i))) {
+                    if (bmp != null) {
+                        if (bmp[c] == 0) {
+                            return false;
+                        }
+                        bmp[c]--;
+                    } else {
+                        if (sparse.get(c) == 0) {
+                            return false;
+                        }
+                        sparse.add(c, -1);
+                    }
+                } else {
+                    int codePoint = Character.toCodePoint(c, s.charAt(i++));
+                    if (sparse.get(codePoint) == 0) {
+                        return false;
+                    }
+                    sparse.add(codePoint, -1);
+                }
+                total--;
+            }
+            return true;
+        }
+
+        int count(int codePoint) {
+            if (codePoint < LATIN1_SIZE) {
+                return latin1[codePoint];
+            }
+            if (codePoint < BMP_SIZE && bmp != null) {
+                return bmp[codePoint];
+            }
+            return (int) sparse.get(codePoint);
+        }
+
+        /**
+         * @return the number of distinct code points counted since the last clear()
+         */
+        int distinctKeys() {
+            return touchedSize;
+        }
+
+        /**
+         * @return the number of distinct code points whose count is greater than threshold
+         */
+        int countKeysAbove(int threshold) {
+            int keys = 0;
+            for (int i = 0; i < touchedSize; i++) {
+                if (count(touched[i]) > threshold) {
+                    keys++;
+                }
+            }
+            return keys;
+        }
+
+        long totalCount() {
+            return total;
+        }
+
+        /**
+         * @return true while the dense int[65536] BMP table is allocated
+         */
+        boolean hasDenseBmp() {
+            return bmp != null;
+        }
+
+        void clear() {
+            for (int i = 0; i < touchedSize; i++) {
+                int key = touched[i];
+                if (key < LATIN1_SIZE) {
+                    latin1[key] = 0;
+                    latin1Touched[key >>> 6] = 0;
+                } else if (key < BMP_SIZE && bmp != null) {
+                    bmp[key] = 0;
+                    bmpTouched[key >>> 6] = 0;
+                }
+            }
+            if (bmpKeys < DENSE_BMP_KEYS) {
+                // This call did not need the dense table; let the next BMP-heavy call allocate it
+                bmp = null;
+                bmpTouched = null;
+            }
+            sparse.clear();
+            bmpKeys = 0;
+            touchedSize = 0;
+            total = 0;
+        }
+
+        private void touchLatin1(int c) {
+            long bit = 1L << c;
+            if ((latin1Touched[c >>> 6] & bit) == 0) {
+                latin1Touched[c >>> 6] |= bit;
+                touch(c);
+            }
+        }
+
+        private void addBmp(char c, int count) {
+            if (bmp == null) {
+                if (!sparse.putIfAbsent(c, count)) {
+                    sparse.add(c, count);
+                } else {
+                    touch(c);
+                    if (++bmpKeys == DENSE_BMP_KEYS) {
+                        switchToDenseBmp();
+                    }
+                }
+                return;
+            }
+            bmp[c] += count;
+            long bit = 1L << c;
+            if ((bmpTouched[c >>> 6] & bit) == 0) {
+                bmpTouched[c >>> 6] |= bit;
+                touch(c);
+                bmpKeys++;
+            }
+        }
+
+        /**
+         * Copies the BMP counts of the sparse table into a new dense table. The sparse entries are
+         * left behind: every BMP lookup goes to the dense table from now on, and clear() drops them.
+         */
+        private void switchToDenseBmp() {
+            bmp = new int[BMP_SIZE];
+            bmpTouched = new long[BMP_SIZE / Long.SIZE];
+            for (int i = 0; i < touchedSize; i++) {
+                int key = touched[i];
+                if (key >= LATIN1_SIZE && key < BMP_SIZE) {
+                    bmp[key] = (int) sparse.get(key);
+                    bmpTouched[key >>> 6] |= 1L << key;
+                }
+            }
+        }
+
+        private void addSupplementary(int codePoint, int count) {
+            if (sparse.putIfAbsent(codePoint, count)) {
+                touch(codePoint);
+            } else {
+                sparse.add(codePoint, count);
+            }
+        }
+
+        private void touch(int key) {
+            if (touchedSize == touched.length) {
+                touched = Arrays.copyOf(touched, touchedSize * 2);
+            }
+            touched[touchedSize++] = key;
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideStrings")
+    @DisplayName("Should match the boxed groupingBy histogram")
+    void shouldMatchBoxedHistogram(String input, String description) {
+        // Given
+        Map<Integer, Long> expected = input.codePoints().boxed()
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        // When
+        CharacterHistogram histogram = CharacterHistogram.threadLocal().add(input);
+
+        // Then
+        assertThat(histogram.distinctKeys()).as("Distinct keys: %s", description).isEqualTo(expected.size());
+        assertThat(histogram.totalCount()).as("Total count: %s", description).isEqualTo(input.codePointCount(0, input.length()));
+        assertThat(histogram.countKeysAbove(1))
+            .as("Keys counted more than once: %s", description)
+            .isEqualTo((int) expected.values().stream().filter(c -> c > 1).count());
+        expected.forEach((codePoint, count) -> assertThat(histogram.count(codePoint))
+            .as("Count of U+%04X: %s", codePoint, description)
+            .isEqualTo(count.intValue()));
+    }
+
+    @Test
+    @DisplayName("Should start from zero after clear and when reused through threadLocal")
+    void shouldStartFromZeroAfterClear() {
+        // Given
+        CharacterHistogram histogram = CharacterHistogram.threadLocal().add("aé中😀😀");
+
+        // When
+        CharacterHistogram reused = CharacterHistogram.threadLocal().add("a");
+
+        // Then
+        assertThat(reused).isSameAs(histogram);
+        assertThat(reused.count('a')).isEqualTo(1);
+        assertThat(reused.count('é')).isZero();
+        assertThat(reused.count('中')).isZero();
+        assertThat(reused.count("😀".codePointAt(0))).isZero();
+        assertThat(reused.distinctKeys()).isEqualTo(1);
+        assertThat(reused.add("中中").countKeysAbove(1)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should detect sub-multisets and anagrams with removeAll")
+    void shouldDetectSubMultisetsWithRemoveAll() {
+        // When & Then
+        assertThat(CharacterHistogram.threadLocal().add("listen").removeAll("silent")).isTrue();
+        assertThat(CharacterHistogram.threadLocal().add("listen").removeAll("silence")).isFalse();
+        assertThat(CharacterHistogram.threadLocal().add("aab").removeAll("ab")).isTrue();
+        assertThat(CharacterHistogram.threadLocal().add("a中😀").removeAll("😀中a")).isTrue();
+        assertThat(CharacterHistogram.threadLocal().add("a中").removeAll("😀")).isFalse();
+        assertThat(CharacterHistogram.threadLocal().add("ab").removeAll("中")).isFalse();
+
+        assertThat(CharacterHistogram.threadLocal().add("a").removeAll("zz")).isFalse();
+        assertThat(CharacterHistogram.threadLocal().count('z')).as("A failed removeAll must not leak into the next call").isZero();
+
+        CharacterHistogram histogram = CharacterHistogram.threadLocal().add("elbow");
+        assertThat(histogram.removeAll("below")).isTrue();
+        assertThat(histogram.totalCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should record a key once when it is counted again after removeAll emptied it")
+    void shouldRecordKeyOnceAfterRemoveAll() {
+        // Given
+        CharacterHistogram histogram = new CharacterHistogram().add("aaé中😀");
+        assertThat(histogram.removeAll("😀中éaa")).isTrue();
+
+        // When
+        histogram.add("aaé中😀");
+        CharacterHistogram copy = new CharacterHistogram().addAll(histogram);
+
+        // Then
+        for (CharacterHistogram result : List.of(histogram, copy)) {
+            assertThat(result.distinctKeys()).isEqualTo(4);
+            assertThat(result.countKeysAbove(1)).isEqualTo(1);
+            assertThat(result.count('a')).isEqualTo(2);
+            assertThat(result.count('é')).isEqualTo(1);
+            assertThat(result.totalCount()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    @DisplayName("Should switch to the dense BMP table on BMP-heavy calls only and release it after a light one")
+    void shouldKeepDenseBmpOnlyWhileCallsNeedIt() {
+        // Given
+        String heavy = randomString(new Random(7), 20_000, 65_536);
+        Map<Integer, Long> expected = heavy.codePoints().boxed().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        CharacterHistogram histogram = new CharacterHistogram();
+
+        // When & Then
+        histogram.add("中文中");
+        assertThat(histogram.hasDenseBmp()).as("A few BMP keys stay sparse").isFalse();
+        assertThat(histogram.count('中')).isEqualTo(2);
+        assertThat(histogram.removeAll("中中")).isTrue();
+        assertThat(histogram.removeAll("中")).isFalse();
+
+        histogram.clear();
+        histogram.add(heavy);
+        assertThat(histogram.hasDenseBmp()).as("Switched after %d BMP keys", CharacterHistogram.DENSE_BMP_KEYS).isTrue();
+        assertThat(histogram.distinctKeys()).isEqualTo(expected.size());
+        expected.forEach((codePoint, count) -> assertThat(histogram.count(codePoint)).isEqualTo(count.intValue()));
+
+        histogram.clear();
+        assertThat(histogram.hasDenseBmp()).as("Kept after a BMP-heavy call").isTrue();
+        histogram.add("中文中");
+        assertThat(histogram.count('中')).isEqualTo(2);
+        assertThat(histogram.distinctKeys()).isEqualTo(2);
+        histogram.clear();
+        assertThat(histogram.hasDenseBmp()).as("Released after a light call").isFalse();
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideStrings")
+    @DisplayName("Should give the same histogram when slices are counted separately and added")
+    void shouldAddSliceHistograms(String input, String description) {
+        // Given
+        int mid = input.length() / 2;
+        if (mid > 0 && Character.isHighSurrogate(input.charAt(mid - 1)) && Character.isLowSurrogate(input.charAt(mid))) {
+            mid++; // keep surrogate pairs in one slice
+        }
+        CharacterHistogram left = new CharacterHistogram().add(input, 0, mid);
+        CharacterHistogram right = new CharacterHistogram().add(input, mid, input.length());
+
+        // When
+        CharacterHistogram merged = new CharacterHistogram().addAll(left).addAll(right);
+
+        // Then
+        CharacterHistogram whole = new CharacterHistogram().add(input);
+        assertThat(merged.totalCount()).as("Total count: %s", description).isEqualTo(whole.totalCount());
+        assertThat(merged.distinctKeys()).as("Distinct keys: %s", description).isEqualTo(whole.distinctKeys());
+        input.codePoints().forEach(codePoint -> assertThat(merged.count(codePoint))
+            .as("Count of U+%04X: %s", codePoint, description)
+            .isEqualTo(whole.count(codePoint)));
+    }
+
+    /**
+     * Allocation test: once a thread's histogram exists, counting Latin-1 or BMP-heavy text allocates nothing
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {256, 65_536})
+    @DisplayName("Should not allocate per call once warmed up")
+    void shouldNotAllocatePerCall(int alphabetSize) {
+        // Given
+        String input = randomString(new Random(alphabetSize), 100_000, alphabetSize);
+        for (int i = 0; i < 50; i++) {
+            CharacterHistogram.threadLocal().add(input).countKeysAbove(1); // warm-up
+        }
+
+        // When
+        long before = Measurements.threadAllocatedBytes();
+        int duplicates = CharacterHistogram.threadLocal().add(input).countKeysAbove(1);
+        long allocated = Measurements.threadAllocatedBytes() - before;
+
+        // Then
+        assertThat(duplicates).isPositive();
+        assertThat(allocated)
+            .as("Bytes allocated per call for an alphabet of %d chars", alphabetSize)
+            .isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {26, 256, 5_000})
+    @DisplayName("Should outperform the boxed groupingBy histogram")
+    void shouldOutperformBoxedHistogram(int alphabetSize) {
+        // Given
+        String input = randomString(new Random(7), 2_000_000, alphabetSize);
+        for (int i = 0; i < 5; i++) {
+            CharacterHistogram.threadLocal().add(input.substring(0, 100_000)); // warm-up
+            boxedHistogram(input.substring(0, 100_000));
+        }
+
+        // When
+        long kernelStart = System.nanoTime();
+        int kernelDistinct = CharacterHistogram.threadLocal().add(input).distinctKeys();
+        long kernelTime = System.nanoTime() - kernelStart;
+
+        long boxedStart = System.nanoTime();
+        int boxedDistinct = boxedHistogram(input).size();
+        long boxedTime = System.nanoTime() - boxedStart;
+
+        // Then
+        assertThat(kernelDistinct).isEqualTo(boxedDistinct);
+        assertThat(kernelTime)
+            .as("Kernel (%d us) vs groupingBy (%d us) for %d distinct chars", kernelTime / 1_000, boxedTime / 1_000, alphabetSize)
+            .isLessThan(boxedTime);
+    }
+
+    private static Map<Character, Long> boxedHistogram(String s) {
+        return s.chars().mapToObj(c -> (char) c).collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+
+    private static String randomString(Random random, int length, int alphabetSize) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            char c = (char) random.nextInt(alphabetSize);
+            chars[i] = Character.isSurrogate(c) ? 'x' : c;
+        }
+        return new String(chars);
+    }
+
+    // Test data providers
+    static Stream<Arguments> provideStrings() {
+        StringBuilder supplementary = new StringBuilder();
+        Random random = new Random(3);
+        for (int i = 0; i < 2_000; i++) {
+            supplementary.appendCodePoint(0x1F600 + random.nextInt(200));
+        }
+        return Stream.of(
+            Arguments.of("", "Empty string"),
+            Arguments.of("hello", "ASCII"),
+            Arguments.of("mississippi", "ASCII with several duplicates"),
+            Arguments.of("naïve café déjà vu", "Latin-1 accents"),
+            Arguments.of("中文字符中文", "CJK ideographs (dense BMP table)"),
+            Arguments.of("😀😁😀 ok", "Emojis (sparse supplementary table)"),
+            Arguments.of("a\uD83Dz\uDE00\uD83D", "Unpaired surrogates count as chars"),
+            Arguments.of(supplementary.toString(), "Many supplementary code points (table resize)"),
+            Arguments.of(randomString(random, 10_000, 65_536), "Random BMP text")
+        );
+    }
+}
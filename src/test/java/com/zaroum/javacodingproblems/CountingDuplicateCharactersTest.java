@@ -7,9 +7,6 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,16 +27,18 @@ import static org.assertj.core.api.Assertions.assertThat;
  * 
  * Algorithm:
  * 1. Handle edge cases (null/empty string)
- * 2. Create a frequency map of characters using Java Streams
+ * 2. Count every character in the reusable primitive histogram of the current thread
  * 3. Count how many characters have frequency > 1
  * 
  * Implementation Details:
- * - Uses Java 8 Streams with groupingBy and counting collectors
+ * - Uses {@link CharacterHistogramTest.CharacterHistogram}: int tables instead of a boxed
+ *   Map<Character, Long>, no allocation per call once the thread's histogram exists
  * - Case-sensitive character counting
- * - Handles all Unicode characters including special symbols
+ * - Handles all Unicode characters including special symbols; a surrogate pair (emoji) counts
+ *   as one character
  * 
  * Time Complexity: O(n) where n is the length of the string
- * Space Complexity: O(k) where k is the number of unique characters
+ * Space Complexity: O(k) where k is the number of unique characters, in a histogram reused per thread
  */
 @DisplayName("Counting Duplicate Characters Tests")
 public class CountingDuplicateCharactersTest {
@@ -48,10 +47,7 @@ public class CountingDuplicateCharactersTest {
     private Long countDuplicateCharacters(String str) {
         if(str == null || str.length() == 0)
             return 0L;
-        Map<Character, Long> map = str.chars().mapToObj(c -> (char) c)
-                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
-
-        return  map.values().stream().filter(c -> c > 1).count();
+        return (long) CharacterHistogramTest.CharacterHistogram.threadLocal().add(str).countKeysAbove(1);
     }
 
     @ParameterizedTest
@@ -163,7 +159,8 @@ public class CountingDuplicateCharactersTest {
             Arguments.of("hello world!", 2L, "String with spaces and punctuation (l, o)"),
             Arguments.of("  ", 1L, "Duplicate spaces"),
             Arguments.of("a!b@c#a!b@c#", 6L, "Complex pattern with letters and special chars"),
-            Arguments.of("123!@#123", 3L, "Numbers and special characters repeated")
+            Arguments.of("123!@#123", 3L, "Numbers and special characters repeated"),
+            Arguments.of("😀😀😁", 1L, "Emojis count as one character, not as two surrogates")
         );
     }
 }
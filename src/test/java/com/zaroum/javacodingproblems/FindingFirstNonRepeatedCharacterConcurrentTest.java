@@ -0,0 +1,388 @@
+package com.zaroum.javacodingproblems;
+
+import com.zaroum.javacodingproblems.FindingFirstNonRepeatedCharacterStreamingTest.FirstUniqueCharacterTracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Finding First Non-Repeated Character - Concurrent Tracker Tests
+ *
+ * Problem Description:
+ * Several ingestion threads feed the same key space (characters, or any int keys below a bound).
+ * At any time, report the earliest key seen exactly once across all of them - the multi-threaded
+ * version of {@link FindingFirstNonRepeatedCharacterTest} - without a global lock.
+ *
+ * Examples (one thread after the other):
+ * - thread A appends 'x', 'y', thread B appends 'x' → 'y'
+ * - thread A appends 'x', thread B appends 'x' → none
+ *
+ * Algorithm (per-key state machine + ordered candidate log):
+ * 1. Every key has an atomic state UNSEEN → ONCE → MANY; transitions only move forward
+ * 2. The thread whose CAS moves a key from UNSEEN to ONCE takes the next ticket of a global
+ *    sequence and writes the key into slot ticket of the candidate log; ticket order is the
+ *    order of first appearance
+ * 3. A later append of a ONCE key CASes it to MANY; appends of MANY keys only read the state
+ * 4. A query walks the log from a shared head and returns the first key still ONCE. Slots whose
+ *    key is MANY are dead forever, so the query moves the head past the dead prefix it walked
+ *    (lazy cleaning, monotonic max on an atomic int)
+ *
+ * Implementation Details:
+ * - Every key enters the log at most once, so the log is a fixed AtomicIntegerArray of keySpace
+ *   slots and nothing is allocated per append
+ * - A slot whose ticket is taken but whose key is not yet written belongs to an append still in
+ *   flight; queries skip it and do not move the head past it
+ * - Queries are weakly consistent while producers run (an in-flight append may show up later
+ *   with an earlier ticket) and exact once producers are quiescent
+ * - Keys outside [0, keySpace) are rejected with IllegalArgumentException
+ *
+ * Time Complexity: O(1) per append (one read, at most two CAS), amortized O(1) per query when
+ * appends are not in flight
+ * Space Complexity: O(keySpace) - Two int arrays
+ */
+@DisplayName("Finding First Non-Repeated Character Concurrent Tracker Tests")
+public class FindingFirstNonRepeatedCharacterConcurrentTest {
+
+    /**
+     * Lock-free first-unique-key tracker shared by many producer threads.
+     */
+    static final class ConcurrentFirstUniqueTracker {
+
+        static final int NONE = -1;
+        static final int CHAR_KEY_SPACE = 1 << 16;
+
+        private static final int UNSEEN = 0;
+        private static final int ONCE = 1;
+        private static final int MANY = 2;
+        private static final int PENDING = 0; // log slot taken, key not written yet
+
+        private final int keySpace;
+        private final AtomicIntegerArray states;
+        private final AtomicIntegerArray log; // key + 1 in ticket order
+        private final AtomicInteger tickets = new AtomicInteger();
+        private final AtomicInteger head = new AtomicInteger();
+
+        ConcurrentFirstUniqueTracker() {
+            this(CHAR_KEY_SPACE);
+        }
+
+        ConcurrentFirstUniqueTracker(int keySpace) {
+            if (keySpace < 1) {
+                throw new IllegalArgumentException("keySpace must be >= 1 but was " + keySpace);
+            }
+            this.keySpace = keySpace;
+            this.states = new AtomicIntegerArray(keySpace);
+            this.log = new AtomicIntegerArray(keySpace);
+        }
+
+        void append(int key) {
+            if (key < 0 || key >= keySpace) {
+                throw new IllegalArgumentException("Key " + key + " out of bounds for key space " + keySpace);
+            }
+            int state = states.get(key);
+            while (state != MANY) {
+                int target = state == UNSEEN ? ONCE : MANY;
+                int witness = states.compareAndExchange(key, state, target);
+                if (witness == state) {
+                    if (target == ONCE) {
+                        log.set(tickets.getAndIncrement(), key + 1);
+                    }
+                    return;
+                }
+                state = witness; // another thread moved the key first, retry from its state
+            }
+        }
+
+        /**
+         * @return the earliest key appended exactly once so far, or NONE
+         */
+        int firstUnique() {
+            int start = head.get();
+            int end = tickets.get();
+            int deadPrefix = start;
+            for (int ticket = start; ticket < end; ticket++) {
+                int entry = log.get(ticket);
+                if (entry == PENDING) {
+                    continue; // append in flight: neither an answer nor dead yet
+                }
+                int key = entry - 1;
+                if (states.get(key) == ONCE) {
+                    advanceHead(deadPrefix);
+                    return key;
+                }
+                if (deadPrefix == ticket) {
+                    deadPrefix++;
+                }
+            }
+            advanceHead(deadPrefix);
+            return NONE;
+        }
+
+        /**
+         * @return the number of distinct keys appended so far
+         */
+        int distinctKeys() {
+            return tickets.get();
+        }
+
+        private void advanceHead(int newHead) {
+            if (newHead > head.get()) {
+                head.accumulateAndGet(newHead, Math::max);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should match the single-threaded tracker when used from one thread")
+    void shouldMatchSingleThreadedTracker() {
+        // Given
+        Random random = new Random(23);
+        for (int alphabetSize : new int[]{1, 3, 26, 1_000, 65_536}) {
+            ConcurrentFirstUniqueTracker concurrent = new ConcurrentFirstUniqueTracker();
+            FirstUniqueCharacterTracker sequential = new FirstUniqueCharacterTracker();
+
+            for (int i = 0; i < 5_000; i++) {
+                char c = (char) random.nextInt(alphabetSize);
+
+                // When
+                concurrent.append(c);
+
+                // Then
+                assertThat(concurrent.firstUnique())
+                    .as("Alphabet %d after %d appends", alphabetSize, i + 1)
+                    .isEqualTo(sequential.append(c));
+            }
+        }
+    }
+
+    /**
+     * jcstress-style races: two threads start together on a fresh tracker, thousands of times,
+     * and the quiescent outcome must be the only allowed one
+     */
+    @Test
+    @DisplayName("Should resolve two-thread races on the same keys")
+    void shouldResolveTwoThreadRaces() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 2_000; round++) {
+                // Given
+                ConcurrentFirstUniqueTracker tracker = new ConcurrentFirstUniqueTracker(4);
+                CyclicBarrier barrier = new CyclicBarrier(2);
+
+                // When: A appends 0, 1 and B appends 0, 2 → 0 is repeated, 1 and 2 race for first
+                Future<?> first = executor.submit(() -> {
+                    barrier.await();
+                    tracker.append(0);
+                    tracker.append(1);
+                    return null;
+                });
+                Future<?> second = executor.submit(() -> {
+                    barrier.await();
+                    tracker.append(0);
+                    tracker.append(2);
+                    tracker.append(3);
+                    tracker.append(3);
+                    return null;
+                });
+                first.get();
+                second.get();
+
+                // Then
+                assertThat(tracker.firstUnique()).as("Round %d", round).isIn(1, 2);
+                assertThat(tracker.distinctKeys()).as("Round %d", round).isEqualTo(4);
+                tracker.append(1);
+                tracker.append(2);
+                assertThat(tracker.firstUnique()).as("Round %d after repeating 1 and 2", round)
+                    .isEqualTo(ConcurrentFirstUniqueTracker.NONE);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Stress test: producers share part of the key space while a reader keeps querying. Once
+     * producers are done, the answer must be a key appended exactly once overall, and no key of
+     * the same producer that was appended exactly once and earlier may exist (program order is
+     * ticket order within one thread).
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {2, 4, 8})
+    @DisplayName("Should stay consistent under concurrent producers and readers")
+    void shouldStayConsistentUnderConcurrentProducersAndReaders(int producers) throws Exception {
+        // Given
+        int keySpace = 4_096;
+        int appendsPerProducer = 20_000;
+        Random random = new Random(producers);
+        int[][] streams = new int[producers][appendsPerProducer];
+        Map<Integer, Integer> totals = new HashMap<>();
+        for (int[] stream : streams) {
+            for (int i = 0; i < appendsPerProducer; i++) {
+                stream[i] = random.nextDouble() < 0.999 ? random.nextInt(keySpace / 2) : keySpace / 2 + random.nextInt(keySpace / 2);
+                totals.merge(stream[i], 1, Integer::sum);
+            }
+        }
+        ConcurrentFirstUniqueTracker tracker = new ConcurrentFirstUniqueTracker(keySpace);
+        ExecutorService executor = Executors.newFixedThreadPool(producers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            // When
+            for (int[] stream : streams) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int key : stream) {
+                        tracker.append(key);
+                    }
+                    return null;
+                }));
+            }
+            Future<Long> reader = executor.submit(() -> {
+                start.await();
+                long queries = 0;
+                while (futures.stream().anyMatch(f -> !f.isDone())) {
+                    int first = tracker.firstUnique();
+                    assertThat(first).isBetween(ConcurrentFirstUniqueTracker.NONE, keySpace - 1);
+                    queries++;
+                }
+                return queries;
+            });
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            reader.get();
+
+            // Then
+            int first = tracker.firstUnique();
+            boolean anySingle = totals.containsValue(1);
+            assertThat(first != ConcurrentFirstUniqueTracker.NONE).as("A key appended once exists").isEqualTo(anySingle);
+            assertThat(tracker.distinctKeys()).isEqualTo(totals.size());
+            if (anySingle) {
+                assertThat(totals.get(first)).as("Occurrences of the answer %d", first).isEqualTo(1);
+                int[] owner = Arrays.stream(streams).filter(stream -> Arrays.stream(stream).anyMatch(key -> key == first)).findFirst().orElseThrow();
+                for (int key : owner) {
+                    if (key == first) {
+                        break;
+                    }
+                    assertThat(totals.get(key))
+                        .as("Key %d precedes the answer %d in the same producer", key, first)
+                        .isGreaterThan(1);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject keys outside the key space")
+    void shouldRejectKeysOutsideKeySpace() {
+        // Given
+        ConcurrentFirstUniqueTracker tracker = new ConcurrentFirstUniqueTracker(10);
+
+        // When & Then
+        assertThatThrownBy(() -> tracker.append(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tracker.append(10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ConcurrentFirstUniqueTracker(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(tracker.firstUnique()).isEqualTo(ConcurrentFirstUniqueTracker.NONE);
+    }
+
+    /**
+     * Contention benchmark: producers hammer a shared tracker (mostly repeated keys, the common
+     * case of a long stream) against the single-threaded tracker behind one global lock, best of 3
+     * runs on fresh trackers. Scheduling noise can favour either side of a single run, so the
+     * lock-free tracker only has to stay within 1.5x of the locked one; correctness under
+     * contention is covered by the stress test. Runs on any number of cores: time-sliced producers
+     * still contend for the lock.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {2, 4})
+    @DisplayName("Should keep up with a globally locked tracker under contention")
+    void shouldBenchmarkAgainstGlobalLock(int producers) throws Exception {
+        // Given
+        int cores = Runtime.getRuntime().availableProcessors();
+        int appendsPerProducer = 2_000_000;
+        int[][] streams = new int[producers][appendsPerProducer];
+        for (int p = 0; p < producers; p++) {
+            Random random = new Random(p);
+            for (int i = 0; i < appendsPerProducer; i++) {
+                streams[p][i] = random.nextInt(20_000);
+            }
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+
+        try {
+            // When
+            long lockFreeTime = Long.MAX_VALUE;
+            long lockedTime = Long.MAX_VALUE;
+            for (int round = 0; round < 4; round++) { // round 0 is the warm-up
+                ConcurrentFirstUniqueTracker lockFree = new ConcurrentFirstUniqueTracker();
+                FirstUniqueCharacterTracker locked = new FirstUniqueCharacterTracker();
+                long lockFreeRun = runProducers(executor, streams, key -> {
+                    lockFree.append(key);
+                    return lockFree.firstUnique();
+                });
+                long lockedRun = runProducers(executor, streams, key -> {
+                    synchronized (locked) {
+                        return locked.append((char) key);
+                    }
+                });
+                assertThat(lockFree.firstUnique()).isEqualTo(locked.firstUnique());
+                if (round > 0) {
+                    lockFreeTime = Math.min(lockFreeTime, lockFreeRun);
+                    lockedTime = Math.min(lockedTime, lockedRun);
+                }
+            }
+
+            // Then
+            assertThat(lockFreeTime)
+                .as("%d producers (%d cores): lock-free %d ms vs global lock %d ms",
+                    producers, cores, lockFreeTime / 1_000_000, lockedTime / 1_000_000)
+                .isLessThan(lockedTime * 3 / 2);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static long runProducers(ExecutorService executor, int[][] streams, IntUnaryOperator appendAndQuery) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int[] stream : streams) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                long checksum = 0;
+                for (int key : stream) {
+                    checksum += appendAndQuery.applyAsInt(key);
+                }
+                return checksum;
+            }));
+        }
+        long startTime = System.nanoTime();
+        start.countDown();
+        for (Future<Long> future : futures) {
+            future.get();
+        }
+        return System.nanoTime() - startTime;
+    }
+}
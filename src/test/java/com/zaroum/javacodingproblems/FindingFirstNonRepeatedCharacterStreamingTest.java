@@ -0,0 +1,284 @@
+package com.zaroum.javacodingproblems;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Finding First Non-Repeated Character in a Stream Tests
+ *
+ * Problem Description:
+ * Same question as {@link FindingFirstNonRepeatedCharacterTest}, asked after every character of
+ * an unbounded stream (an event pipeline): which character seen so far occurs exactly once and
+ * occurred first? The answer must not require the whole string or a rescan.
+ *
+ * Examples (answer after each appended char):
+ * - "aabc"  → 'a', none, 'b', 'b'
+ * - "abcab" → 'a', 'a', 'a', 'b', 'c'
+ *
+ * Algorithm (intrusive candidate list + seen-twice bitset):
+ * 1. Characters seen exactly once are linked, in order of appearance, in a doubly-linked list
+ *    whose prev/next pointers are int arrays indexed by the character itself
+ * 2. First occurrence: mark it seen and link it at the tail
+ * 3. Second occurrence: mark it seen twice and unlink it in O(1) through its own prev/next slots
+ * 4. Later occurrences: the seen-twice bit says there is nothing to do
+ * 5. The first non-repeated character is the head of the list
+ *
+ * Implementation Details:
+ * - No node objects and no boxing: 2 int arrays and 2 long bitsets, so appends never allocate
+ * - The arrays cover Latin-1 until the first larger char arrives, then grow once to the whole
+ *   UTF-16 range (512 KB)
+ * - Characters are UTF-16 units, like the String method; NONE (-1) means no unique character
+ * - A tracker is not thread-safe
+ *
+ * Time Complexity: O(1) per append and per query
+ * Space Complexity: O(alphabet) - Independent of the length of the stream
+ */
+@DisplayName("Finding First Non-Repeated Character in a Stream Tests")
+public class FindingFirstNonRepeatedCharacterStreamingTest {
+
+    /**
+     * Streaming first-unique-character tracker over primitive arrays.
+     */
+    static final class FirstUniqueCharacterTracker {
+
+        static final int NONE = -1;
+
+        private static final int LATIN1_SIZE = 256;
+        private static final int CHAR_SIZE = 1 << 16;
+
+        private int[] prev = new int[LATIN1_SIZE];
+        private int[] next = new int[LATIN1_SIZE];
+        private long[] seen = new long[LATIN1_SIZE / Long.SIZE];
+        private long[] seenTwice = new long[LATIN1_SIZE / Long.SIZE];
+        private int head = NONE;
+        private int tail = NONE;
+        private long length;
+
+        /**
+         * Appends c to the stream.
+         *
+         * @return the first non-repeated character after c, or NONE
+         */
+        int append(char c) {
+            length++;
+            if (c >= prev.length) {
+                grow();
+            }
+            int word = c >>> 6;
+            long bit = 1L << c;
+            if ((seenTwice[word] & bit) != 0) {
+                return head;
+            }
+            if ((seen[word] & bit) == 0) {
+                seen[word] |= bit;
+                link(c);
+            } else {
+                seenTwice[word] |= bit;
+                unlink(c);
+            }
+            return head;
+        }
+
+        int append(CharSequence s) {
+            for (int i = 0; i < s.length(); i++) {
+                append(s.charAt(i));
+            }
+            return head;
+        }
+
+        int firstUnique() {
+            return head;
+        }
+
+        /**
+         * @return the number of chars appended since creation or the last reset()
+         */
+        long length() {
+            return length;
+        }
+
+        void reset() {
+            Arrays.fill(seen, 0);
+            Arrays.fill(seenTwice, 0);
+            head = NONE;
+            tail = NONE;
+            length = 0;
+        }
+
+        private void link(int c) {
+            prev[c] = tail;
+            next[c] = NONE;
+            if (tail == NONE) {
+                head = c;
+            } else {
+                next[tail] = c;
+            }
+            tail = c;
+        }
+
+        private void unlink(int c) {
+            int before = prev[c];
+            int after = next[c];
+            if (before == NONE) {
+                head = after;
+            } else {
+                next[before] = after;
+            }
+            if (after == NONE) {
+                tail = before;
+            } else {
+                prev[after] = before;
+            }
+        }
+
+        private void grow() {
+            prev = Arrays.copyOf(prev, CHAR_SIZE);
+            next = Arrays.copyOf(next, CHAR_SIZE);
+            seen = Arrays.copyOf(seen, CHAR_SIZE / Long.SIZE);
+            seenTwice = Arrays.copyOf(seenTwice, CHAR_SIZE / Long.SIZE);
+        }
+    }
+
+    /**
+     * Parameterized test of the answer after every appended character
+     */
+    @ParameterizedTest
+    @MethodSource("provideStreams")
+    @DisplayName("Should report the first non-repeated character after every append")
+    void shouldReportFirstUniqueAfterEveryAppend(String input, String expectedAnswers) {
+        // Given
+        FirstUniqueCharacterTracker tracker = new FirstUniqueCharacterTracker();
+        StringBuilder answers = new StringBuilder();
+
+        // When
+        for (int i = 0; i < input.length(); i++) {
+            int first = tracker.append(input.charAt(i));
+            answers.append(first == FirstUniqueCharacterTracker.NONE ? '-' : (char) first);
+        }
+
+        // Then
+        assertThat(answers.toString())
+            .as("Answers for '%s'", input)
+            .isEqualTo(expectedAnswers);
+    }
+
+    /**
+     * Randomized differential test: after every char, the tracker must agree with the String
+     * method run on the prefix
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 5, 26, 300, 65_536})
+    @DisplayName("Should match the String implementation on every prefix")
+    void shouldMatchStringImplementationOnEveryPrefix(int alphabetSize) {
+        // Given
+        Random random = new Random(alphabetSize);
+        FindingFirstNonRepeatedCharacterTest original = new FindingFirstNonRepeatedCharacterTest();
+        FirstUniqueCharacterTracker tracker = new FirstUniqueCharacterTracker();
+
+        for (int round = 0; round < 20; round++) {
+            tracker.reset();
+            StringBuilder prefix = new StringBuilder();
+
+            for (int i = 0; i < 300; i++) {
+                char c = (char) random.nextInt(alphabetSize);
+                prefix.append(c);
+
+                // When
+                int first = tracker.append(c);
+
+                // Then
+                Character expected = original.findFirstNonRepeatedCharacter(prefix.toString());
+                assertThat(first)
+                    .as("Alphabet %d, round %d, prefix length %d", alphabetSize, round, prefix.length())
+                    .isEqualTo(expected == null ? FirstUniqueCharacterTracker.NONE : (int) expected);
+            }
+            assertThat(tracker.length()).isEqualTo(prefix.length());
+        }
+    }
+
+    @Test
+    @DisplayName("Should start over after reset")
+    void shouldStartOverAfterReset() {
+        // Given
+        FirstUniqueCharacterTracker tracker = new FirstUniqueCharacterTracker();
+        tracker.append("aab中中");
+
+        // When
+        tracker.reset();
+
+        // Then
+        assertThat(tracker.firstUnique()).isEqualTo(FirstUniqueCharacterTracker.NONE);
+        assertThat(tracker.length()).isZero();
+        assertThat(tracker.append("a")).isEqualTo('a');
+        assertThat(tracker.append("中")).isEqualTo('a');
+        assertThat(tracker.append("a")).isEqualTo('中');
+    }
+
+    /**
+     * Performance test: 50M appends with a query after each, without allocating
+     */
+    @Test
+    @DisplayName("Should answer after every char of a 50M-char stream without allocating")
+    void shouldAnswerLongStreamWithoutAllocating() {
+        // Given
+        char[] events = new char[1 << 20];
+        Random random = new Random(22);
+        for (int i = 0; i < events.length; i++) {
+            events[i] = (char) ('a' + random.nextInt(40_000));
+        }
+        FirstUniqueCharacterTracker tracker = new FirstUniqueCharacterTracker();
+        for (char c : events) {
+            tracker.append(c); // warm-up, also grows the arrays to the whole char range
+        }
+        tracker.reset();
+
+        // When
+        long before = Measurements.threadAllocatedBytes();
+        long startTime = System.nanoTime();
+        long checksum = 0;
+        for (int i = 0; i < 50_000_000; i++) {
+            checksum += tracker.append(events[i & (events.length - 1)]);
+        }
+        long executionTime = System.nanoTime() - startTime;
+        long allocated = Measurements.threadAllocatedBytes() - before;
+
+        // Then
+        assertThat(checksum).isNotZero();
+        assertThat(tracker.length()).isEqualTo(50_000_000L);
+        assertThat(allocated)
+            .as("Bytes allocated by 50M appends")
+            .isZero();
+        assertThat(executionTime)
+            .as("Execution time for 50M appends")
+            .isLessThan(2_000_000_000L); // 2s in nanoseconds
+    }
+
+    /**
+     * Provides streams with the expected answer after each char ('-' for none)
+     */
+    static Stream<Arguments> provideStreams() {
+        return Stream.of(
+            Arguments.of("a", "a"),
+            Arguments.of("aabc", "a-bb"),
+            Arguments.of("abcab", "aaabc"),
+            Arguments.of("aaa", "a--"),
+            Arguments.of("abba", "aaa-"),
+            Arguments.of("hello", "hhhhh"),
+            Arguments.of("abcabc", "aaabc-"),
+            Arguments.of("mississippi", "mmmmmmmmmmm"),
+            Arguments.of("Aa", "AA"),
+            Arguments.of("éeé", "éée"),
+            Arguments.of("中a中", "中中a")
+        );
+    }
+}
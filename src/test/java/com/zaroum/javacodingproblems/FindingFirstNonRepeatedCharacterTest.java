@@ -1,14 +1,19 @@
 package com.zaroum.javacodingproblems;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,24 +34,156 @@ import static org.assertj.core.api.Assertions.assertThat;
  * 
  * Algorithm:
  * 1. Handle edge cases (null/empty string)
- * 2. Use LinkedHashMap to maintain insertion order while counting frequencies
- * 3. Iterate through characters and count occurrences using compute()
- * 4. Find first character with frequency = 1
+ * 2. Record the first index of every character in a primitive table; a second occurrence
+ *    replaces it with the REPEATED sentinel
+ * 3. Scan the table, not the string: the 256 Latin-1 entries for the smallest first index, then
+ *    the wider characters in order of first appearance, which stops at the first non-repeated one
+ * 4. The character with the smallest first index wins
  * 
  * Implementation Details:
- * - Uses LinkedHashMap to preserve character order
+ * - {@link FirstOccurrenceTable}: int[256] for Latin-1, an int[65536] allocated once BMP text is
+ *   seen, a {@link SparseCodePointTable} for supplementary code points; one reusable table per
+ *   thread, so a call on Latin-1 text allocates nothing
  * - Case-sensitive character matching
- * - Handles all Unicode characters including special symbols
- * - Returns Character object (can be null)
+ * - Handles all Unicode characters including special symbols; a code point mode treats a
+ *   surrogate pair as one character
+ * - Returns Character object (can be null); the int variants return NONE (-1) instead of boxing
  * 
- * Time Complexity: O(n) where n is the length of the string
- * Space Complexity: O(k) where k is the number of unique characters
+ * Time Complexity: O(n + 256) where n is the length of the string
+ * Space Complexity: O(k) where k is the number of unique characters, in a table reused per thread
  */
 @DisplayName("Finding First Non-Repeated Character Tests")
 public class FindingFirstNonRepeatedCharacterTest {
 
 
-    private Character findFirstNonRepeatedCharacter(String str) {
+    /**
+     * Primitive first-index table with a repeat sentinel, reused across calls.
+     */
+    static final class FirstOccurrenceTable {
+
+        static final int NONE = -1;
+
+        private static final int UNSEEN = 0; // other values are first index + 1
+        private static final int REPEATED = -1;
+        private static final int LATIN1_SIZE = 256;
+        private static final int BMP_SIZE = 1 << 16;
+        private static final ThreadLocal<FirstOccurrenceTable> PER_THREAD = ThreadLocal.withInitial(FirstOccurrenceTable::new);
+
+        private final int[] latin1 = new int[LATIN1_SIZE];
+        private int[] bmp;
+        private final SparseCodePointTable sparse = new SparseCodePointTable();
+        private int[] wideKeys = new int[64]; // keys >= 256 in order of first appearance
+        private int wideSize;
+
+        static FirstOccurrenceTable threadLocal() {
+            return PER_THREAD.get();
+        }
+
+        /**
+         * @return the first char of s that occurs once, or NONE
+         */
+        int firstNonRepeatedChar(CharSequence s) {
+            clear();
+            for (int i = 0; i < s.length(); i++) {
+                record(s.charAt(i), i);
+            }
+            return firstNonRepeated();
+        }
+
+        /**
+         * @return the first code point of s that occurs once, or NONE
+         */
+        int firstNonRepeatedCodePoint(CharSequence s) {
+            clear();
+            for (int i = 0; i < s.length(); ) {
+                int codePoint = Character.codePointAt(s, i);
+                record(codePoint, i);
+                i += Character.charCount(codePoint);
+            }
+            return firstNonRepeated();
+        }
+
+        private void record(int key, int index) {
+            if (key < LATIN1_SIZE) {
+                latin1[key] = latin1[key] == UNSEEN ? index + 1 : REPEATED;
+            } else if (key < BMP_SIZE) {
+                if (bmp == null) {
+                    bmp = new int[BMP_SIZE];
+                }
+                if (bmp[key] == UNSEEN) {
+                    bmp[key] = index + 1;
+                    addWideKey(key);
+                } else {
+                    bmp[key] = REPEATED;
+                }
+            } else if (sparse.putIfAbsent(key, index + 1)) {
+                addWideKey(key);
+            } else {
+                sparse.put(key, REPEATED);
+            }
+        }
+
+        private int firstNonRepeated() {
+            int best = NONE;
+            int bestFirst = Integer.MAX_VALUE;
+            for (int key = 0; key < LATIN1_SIZE; key++) {
+                int first = latin1[key];
+                if (first > 0 && first < bestFirst) {
+                    best = key;
+                    bestFirst = first;
+                }
+            }
+            for (int i = 0; i < wideSize; i++) {
+                int key = wideKeys[i];
+                int first = key < BMP_SIZE ? bmp[key] : (int) sparse.get(key);
+                if (first > 0) {
+                    // Wide keys are in order of first appearance, so later ones cannot be earlier
+                    return first < bestFirst ? key : best;
+                }
+            }
+            return best;
+        }
+
+        private void clear() {
+            Arrays.fill(latin1, UNSEEN);
+            for (int i = 0; i < wideSize; i++) {
+                if (wideKeys[i] < BMP_SIZE) {
+                    bmp[wideKeys[i]] = UNSEEN;
+                }
+            }
+            sparse.clear();
+            wideSize = 0;
+        }
+
+        private void addWideKey(int key) {
+            if (wideSize == wideKeys.length) {
+                wideKeys = Arrays.copyOf(wideKeys, wideSize * 2);
+            }
+            wideKeys[wideSize++] = key;
+        }
+    }
+
+    Character findFirstNonRepeatedCharacter(String str) {
+        if(str == null || str.length() == 0)
+            return null;
+
+        int c = FirstOccurrenceTable.threadLocal().firstNonRepeatedChar(str);
+        return c == FirstOccurrenceTable.NONE ? null : (char) c;
+    }
+
+    /**
+     * Code point variant: a surrogate pair (emoji, historic script) is one character.
+     *
+     * @return the first code point that occurs once, or FirstOccurrenceTable.NONE
+     */
+    int findFirstNonRepeatedCodePoint(String str) {
+        if (str == null || str.isEmpty()) {
+            return FirstOccurrenceTable.NONE;
+        }
+        return FirstOccurrenceTable.threadLocal().firstNonRepeatedCodePoint(str);
+    }
+
+    private Character findFirstNonRepeatedCharacterWithLinkedHashMap(String str) {
         if(str == null || str.length() == 0)
             return null;
 
@@ -149,6 +286,156 @@ public class FindingFirstNonRepeatedCharacterTest {
             .isEqualTo(expectedChar);
     }
 
+    @ParameterizedTest
+    @MethodSource("provideCodePointStrings")
+    @DisplayName("Should treat surrogate pairs as one character in code point mode")
+    void shouldFindFirstNonRepeatedCodePoint(String input, String expected, String description) {
+        // When
+        int result = findFirstNonRepeatedCodePoint(input);
+
+        // Then
+        assertThat(result)
+            .as("Testing: %s", description)
+            .isEqualTo(expected == null ? FirstOccurrenceTable.NONE : expected.codePointAt(0));
+    }
+
+    /**
+     * Randomized differential test against the LinkedHashMap implementation, from Latin-1 to the
+     * whole UTF-16 range, reusing the same per-thread table across calls
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 26, 256, 300, 65_536})
+    @DisplayName("Should match the LinkedHashMap implementation on random strings")
+    void shouldMatchLinkedHashMapImplementation(int alphabetSize) {
+        // Given
+        Random random = new Random(alphabetSize);
+
+        for (int round = 0; round < 500; round++) {
+            char[] chars = new char[1 + random.nextInt(300)];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = (char) random.nextInt(alphabetSize);
+            }
+            String input = new String(chars);
+
+            // When
+            Character result = findFirstNonRepeatedCharacter(input);
+
+            // Then
+            assertThat(result)
+                .as("Alphabet %d, round %d", alphabetSize, round)
+                .isEqualTo(findFirstNonRepeatedCharacterWithLinkedHashMap(input));
+        }
+    }
+
+    /**
+     * Randomized differential test of the code point mode against the code points of the string,
+     * with supplementary characters mixed into Latin-1 and BMP text
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {2, 40, 5_000})
+    @DisplayName("Should match a code point count on random strings with surrogate pairs")
+    void shouldMatchCodePointCount(int supplementaryKeys) {
+        // Given
+        Random random = new Random(supplementaryKeys);
+
+        for (int round = 0; round < 200; round++) {
+            StringBuilder input = new StringBuilder();
+            for (int i = 0; i < 1 + random.nextInt(300); i++) {
+                switch (random.nextInt(3)) {
+                    case 0 -> input.append((char) ('a' + random.nextInt(26)));
+                    case 1 -> input.append((char) (0x4E00 + random.nextInt(50)));
+                    default -> input.appendCodePoint(0x1F600 + random.nextInt(supplementaryKeys));
+                }
+            }
+            Map<Integer, Long> counts = input.codePoints().boxed()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+            int expected = input.codePoints().filter(codePoint -> counts.get(codePoint) == 1L)
+                .findFirst().orElse(FirstOccurrenceTable.NONE);
+
+            // When
+            int result = findFirstNonRepeatedCodePoint(input.toString());
+
+            // Then
+            assertThat(result)
+                .as("Supplementary keys %d, round %d", supplementaryKeys, round)
+                .isEqualTo(expected);
+        }
+    }
+
+    /**
+     * Allocation test: after the first call has created this thread's table, Latin-1 input does
+     * not allocate. Answers are ASCII so that Character.valueOf returns its cached instances.
+     */
+    @Test
+    @DisplayName("Should not allocate on Latin-1 input")
+    void shouldNotAllocateOnLatin1Input() {
+        // Given
+        String[] inputs = {"programming", "aabbcc", "the quick brown fox", "éèéèz", "abcdefghijklmnopqrstuvwxyzaa"};
+        long checksum = 0;
+        for (int i = 0; i < 100_000; i++) {
+            checksum += findFirstNonRepeatedCodePoint(inputs[i % inputs.length]); // warm-up
+        }
+
+        // When
+        long before = Measurements.threadAllocatedBytes();
+        for (int i = 0; i < 1_000_000; i++) {
+            String input = inputs[i % inputs.length];
+            checksum += findFirstNonRepeatedCodePoint(input);
+            Character c = findFirstNonRepeatedCharacter(input);
+            checksum += c == null ? 0 : c;
+        }
+        long allocated = Measurements.threadAllocatedBytes() - before;
+
+        // Then
+        assertThat(checksum).isNotZero();
+        assertThat(allocated)
+            .as("Bytes allocated by 2M calls on Latin-1 input")
+            .isZero();
+    }
+
+    /**
+     * Performance test: first-index table vs LinkedHashMap on 10K-char words
+     */
+    @Test
+    @DisplayName("Should be faster than the LinkedHashMap implementation")
+    void shouldBeFasterThanLinkedHashMap() {
+        // Given
+        Random random = new Random(24);
+        String[] inputs = new String[64];
+        for (int i = 0; i < inputs.length; i++) {
+            char[] chars = new char[10_000];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = (char) ('a' + random.nextInt(26));
+            }
+            chars[random.nextInt(chars.length)] = 'Z';
+            inputs[i] = new String(chars);
+        }
+        for (int round = 0; round < 5; round++) { // warm-up
+            for (String input : inputs) {
+                findFirstNonRepeatedCharacter(input);
+                findFirstNonRepeatedCharacterWithLinkedHashMap(input);
+            }
+        }
+
+        // When
+        long tableStart = System.nanoTime();
+        for (String input : inputs) {
+            assertThat(findFirstNonRepeatedCharacter(input)).isEqualTo('Z');
+        }
+        long tableTime = System.nanoTime() - tableStart;
+
+        long mapStart = System.nanoTime();
+        for (String input : inputs) {
+            assertThat(findFirstNonRepeatedCharacterWithLinkedHashMap(input)).isEqualTo('Z');
+        }
+        long mapTime = System.nanoTime() - mapStart;
+
+        // Then
+        assertThat(tableTime)
+            .as("First-index table (%d us) vs LinkedHashMap (%d us)", tableTime / 1_000, mapTime / 1_000)
+            .isLessThan(mapTime);
+    }
+
     // Test data providers
     static Stream<Arguments> provideStringsWithFirstNonRepeatedCharacter() {
         return Stream.of(
@@ -217,4 +504,17 @@ public class FindingFirstNonRepeatedCharacterTest {
             Arguments.of("AaAaAa", null, "Alternating case pattern, all repeated")
         );
     }
+
+    static Stream<Arguments> provideCodePointStrings() {
+        return Stream.of(
+            Arguments.of("😀", "😀", "Single emoji"),
+            Arguments.of("😀😀😁", "😁", "Repeated emoji then a unique one"),
+            Arguments.of("😀😁", "😀", "Emoji sharing a high surrogate"),
+            Arguments.of("a😀a", "😀", "Emoji between repeated Latin-1 chars"),
+            Arguments.of("😀a😀", "a", "Latin-1 char between repeated emoji"),
+            Arguments.of("中😀中a", "😀", "Emoji before a later Latin-1 char"),
+            Arguments.of("😀😀中中", null, "All code points repeated"),
+            Arguments.of("\uD83D", "\uD83D", "Unpaired high surrogate")
+        );
+    }
 }
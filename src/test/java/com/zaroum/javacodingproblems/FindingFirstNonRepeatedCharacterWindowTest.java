@@ -0,0 +1,369 @@
+package com.zaroum.javacodingproblems;
+
+import com.zaroum.javacodingproblems.FindingFirstNonRepeatedCharacterStreamingTest.FirstUniqueCharacterTracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Finding First Non-Repeated Character in a Sliding Window Tests
+ *
+ * Problem Description:
+ * Same question as {@link FindingFirstNonRepeatedCharacterStreamingTest}, restricted to the last W
+ * characters of the stream (abuse detection over recent traffic): after every appended char, which
+ * character occurs exactly once in the window and occurs first? Re-running
+ * {@link FindingFirstNonRepeatedCharacterTest} on every window costs O(W) per char.
+ *
+ * Examples (W = 3, answer after each appended char):
+ * - "aabc"  → 'a', none, 'b', 'a' (the first 'a' leaves the window, the second becomes unique)
+ * - "abcd"  → 'a', 'a', 'a', 'b'
+ *
+ * Algorithm (per-character counts + candidate slots in window order):
+ * 1. The window is a ring buffer of W chars; position p lives in slot p % W
+ * 2. Per character: its count in the window and the slot of its last occurrence
+ * 3. A character whose count is 1 is a candidate, marked by one bit on the slot of its occurrence
+ * 4. Append: the char leaving the window is decremented - at 0 its bit is cleared, at 1 its
+ *    remaining occurrence becomes a candidate again; the new char is counted - at 1 its slot is
+ *    marked, at 2 the previous occurrence is unmarked
+ * 5. The answer is the first marked slot starting from the oldest one, wrapping around the ring
+ *
+ * Implementation Details:
+ * - A plain deque of candidates is not enough: a character that was repeated becomes unique again
+ *   when its older occurrence leaves, and its remaining occurrence can sit in the middle of the
+ *   candidates. Marking slots keeps every candidate in window order without moving anything
+ * - Marks are a two-level bitmap: one bit per slot and one summary bit per 64-slot word, so the
+ *   first mark is found with one word per level for windows up to 4096 chars
+ * - Counts cover Latin-1 until the first larger char arrives, then grow once to the whole UTF-16
+ *   range, like the streaming tracker; appends never allocate
+ * - A tracker is not thread-safe
+ *
+ * Time Complexity: O(1) per append; O(1 + W / 4096) words read per query
+ * Space Complexity: O(W + alphabet)
+ */
+@DisplayName("Finding First Non-Repeated Character in a Sliding Window Tests")
+public class FindingFirstNonRepeatedCharacterWindowTest {
+
+    /**
+     * First unique character of the last W chars of a stream.
+     */
+    static final class WindowedFirstUniqueTracker {
+
+        static final int NONE = -1;
+
+        private static final int LATIN1_SIZE = 256;
+        private static final int CHAR_SIZE = 1 << 16;
+
+        private final int window;
+        private final char[] ring;
+        private final long[] candidates; // one bit per slot whose char occurs once in the window
+        private final long[] summary; // one bit per non-empty word of candidates
+        private int[] counts = new int[LATIN1_SIZE];
+        private int[] lastSlot = new int[LATIN1_SIZE];
+        private long length;
+
+        WindowedFirstUniqueTracker(int window) {
+            if (window < 1) {
+                throw new IllegalArgumentException("window must be >= 1 but was " + window);
+            }
+            this.window = window;
+            this.ring = new char[window];
+            this.candidates = new long[(window + 63) >>> 6];
+            this.summary = new long[(candidates.length + 63) >>> 6];
+        }
+
+        /**
+         * Appends c to the stream, dropping the char that falls out of the window.
+         *
+         * @return the first non-repeated character of the window after c, or NONE
+         */
+        int append(char c) {
+            if (c >= counts.length) {
+                grow();
+            }
+            int slot = (int) (length % window);
+            if (length >= window) {
+                char leaving = ring[slot];
+                int remaining = --counts[leaving];
+                if (remaining == 0) {
+                    unmark(slot);
+                } else if (remaining == 1) {
+                    mark(lastSlot[leaving]);
+                }
+            }
+            ring[slot] = c;
+            int count = ++counts[c];
+            if (count == 1) {
+                mark(slot);
+            } else if (count == 2) {
+                unmark(lastSlot[c]);
+            }
+            lastSlot[c] = slot;
+            length++;
+            return firstUnique();
+        }
+
+        int append(CharSequence s) {
+            for (int i = 0; i < s.length(); i++) {
+                append(s.charAt(i));
+            }
+            return firstUnique();
+        }
+
+        int firstUnique() {
+            int oldest = length < window ? 0 : (int) (length % window);
+            int slot = nextMarked(oldest);
+            if (slot < 0 && oldest > 0) {
+                slot = nextMarked(0);
+            }
+            return slot < 0 ? NONE : ring[slot];
+        }
+
+        int window() {
+            return window;
+        }
+
+        /**
+         * @return the number of chars appended since creation or the last reset()
+         */
+        long length() {
+            return length;
+        }
+
+        void reset() {
+            Arrays.fill(counts, 0);
+            Arrays.fill(candidates, 0);
+            Arrays.fill(summary, 0);
+            length = 0;
+        }
+
+        private void mark(int slot) {
+            int word = slot >>> 6;
+            candidates[word] |= 1L << slot;
+            summary[word >>> 6] |= 1L << word;
+        }
+
+        private void unmark(int slot) {
+            int word = slot >>> 6;
+            candidates[word] &= ~(1L << slot);
+            if (candidates[word] == 0) {
+                summary[word >>> 6] &= ~(1L << word);
+            }
+        }
+
+        /**
+         * @return the first marked slot at or after from, or -1
+         */
+        private int nextMarked(int from) {
+            int word = from >>> 6;
+            long bits = candidates[word] & (-1L << from);
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            word++;
+            if (word == candidates.length) {
+                return -1;
+            }
+            int summaryWord = word >>> 6;
+            long words = summary[summaryWord] & (-1L << word);
+            while (true) {
+                if (words != 0) {
+                    word = (summaryWord << 6) + Long.numberOfTrailingZeros(words);
+                    return (word << 6) + Long.numberOfTrailingZeros(candidates[word]);
+                }
+                if (++summaryWord == summary.length) {
+                    return -1;
+                }
+                words = summary[summaryWord];
+            }
+        }
+
+        private void grow() {
+            counts = Arrays.copyOf(counts, CHAR_SIZE);
+            lastSlot = Arrays.copyOf(lastSlot, CHAR_SIZE);
+        }
+    }
+
+    /**
+     * Parameterized test of the answer after every appended character
+     */
+    @ParameterizedTest
+    @MethodSource("provideWindows")
+    @DisplayName("Should report the first non-repeated character of the window after every append")
+    void shouldReportFirstUniqueOfWindowAfterEveryAppend(int window, String input, String expectedAnswers) {
+        // Given
+        WindowedFirstUniqueTracker tracker = new WindowedFirstUniqueTracker(window);
+        StringBuilder answers = new StringBuilder();
+
+        // When
+        for (int i = 0; i < input.length(); i++) {
+            int first = tracker.append(input.charAt(i));
+            answers.append(first == WindowedFirstUniqueTracker.NONE ? '-' : (char) first);
+        }
+
+        // Then
+        assertThat(answers.toString())
+            .as("Answers for '%s' with window %d", input, window)
+            .isEqualTo(expectedAnswers);
+    }
+
+    /**
+     * Randomized differential test: after every char, the tracker must agree with the brute-force
+     * String method run on the last W chars
+     */
+    @ParameterizedTest
+    @CsvSource({
+        "1, 3", "2, 2", "3, 3", "7, 5", "64, 26", "65, 40", "100, 300", "4097, 3000", "5000, 65536"
+    })
+    @DisplayName("Should match the brute-force method on every window")
+    void shouldMatchBruteForceOnEveryWindow(int window, int alphabetSize) {
+        // Given
+        Random random = new Random(31L * window + alphabetSize);
+        FindingFirstNonRepeatedCharacterTest original = new FindingFirstNonRepeatedCharacterTest();
+        WindowedFirstUniqueTracker tracker = new WindowedFirstUniqueTracker(window);
+
+        for (int round = 0; round < 3; round++) {
+            tracker.reset();
+            StringBuilder stream = new StringBuilder();
+
+            for (int i = 0; i < 3 * window + 200; i++) {
+                char c = (char) random.nextInt(alphabetSize);
+                stream.append(c);
+
+                // When
+                int first = tracker.append(c);
+
+                // Then
+                Character expected = original.findFirstNonRepeatedCharacter(
+                    stream.substring(Math.max(0, stream.length() - window)));
+                assertThat(first)
+                    .as("Window %d, alphabet %d, round %d, length %d", window, alphabetSize, round, stream.length())
+                    .isEqualTo(expected == null ? WindowedFirstUniqueTracker.NONE : (int) expected);
+            }
+            assertThat(tracker.length()).isEqualTo(stream.length());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 100_000})
+    @DisplayName("Should behave like the unbounded tracker while the stream fits in the window")
+    void shouldMatchStreamingTrackerWithinWindow(int window) {
+        // Given
+        Random random = new Random(window);
+        WindowedFirstUniqueTracker windowed = new WindowedFirstUniqueTracker(window);
+        FirstUniqueCharacterTracker unbounded = new FirstUniqueCharacterTracker();
+
+        for (int i = 0; i < window; i++) {
+            char c = (char) ('a' + random.nextInt(500));
+
+            // When & Then
+            assertThat(windowed.append(c)).as("Length %d", i + 1).isEqualTo(unbounded.append(c));
+        }
+    }
+
+    @Test
+    @DisplayName("Should start over after reset and reject invalid windows")
+    void shouldResetAndRejectInvalidWindows() {
+        // Given
+        WindowedFirstUniqueTracker tracker = new WindowedFirstUniqueTracker(2);
+        tracker.append("ab中中");
+
+        // When
+        tracker.reset();
+
+        // Then
+        assertThat(tracker.firstUnique()).isEqualTo(WindowedFirstUniqueTracker.NONE);
+        assertThat(tracker.length()).isZero();
+        assertThat(tracker.window()).isEqualTo(2);
+        assertThat(tracker.append("中")).isEqualTo('中');
+        assertThat(tracker.append("a")).isEqualTo('中');
+        assertThat(tracker.append("a")).isEqualTo(WindowedFirstUniqueTracker.NONE);
+        assertThatThrownBy(() -> new WindowedFirstUniqueTracker(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Performance test: tracker vs re-running the String method on every 4096-char window. The
+     * tracker must also run without allocating.
+     */
+    @Test
+    @DisplayName("Should beat re-scanning every window without allocating")
+    void shouldBeatRescanningEveryWindowWithoutAllocating() {
+        // Given
+        int window = 4_096;
+        char[] events = new char[1 << 16];
+        Random random = new Random(25);
+        for (int i = 0; i < events.length; i++) {
+            events[i] = (char) ('a' + random.nextInt(3_000));
+        }
+        String stream = new String(events);
+        FindingFirstNonRepeatedCharacterTest original = new FindingFirstNonRepeatedCharacterTest();
+        WindowedFirstUniqueTracker tracker = new WindowedFirstUniqueTracker(window);
+        for (int round = 0; round < 20; round++) {
+            tracker.append(stream); // warm-up, also grows the counts to the whole char range
+        }
+        for (int end = window; end < window + 2_000; end++) {
+            original.findFirstNonRepeatedCharacter(stream.substring(end - window, end));
+        }
+
+        // When
+        long before = Measurements.threadAllocatedBytes();
+        for (int round = 0; round < 100; round++) {
+            tracker.append(stream);
+        }
+        long allocated = Measurements.threadAllocatedBytes() - before;
+
+        tracker.reset();
+        long trackerStart = System.nanoTime();
+        long trackerChecksum = 0;
+        for (char c : events) {
+            trackerChecksum += tracker.append(c);
+        }
+        long trackerTime = System.nanoTime() - trackerStart;
+
+        long rescanStart = System.nanoTime();
+        long rescanChecksum = 0;
+        for (int end = 1; end <= events.length; end++) {
+            Character first = original.findFirstNonRepeatedCharacter(stream.substring(Math.max(0, end - window), end));
+            rescanChecksum += first == null ? WindowedFirstUniqueTracker.NONE : first;
+        }
+        long rescanTime = System.nanoTime() - rescanStart;
+
+        // Then
+        assertThat(trackerChecksum).isEqualTo(rescanChecksum);
+        assertThat(allocated)
+            .as("Bytes allocated by %d appends", 100 * events.length)
+            .isZero();
+        assertThat(trackerTime)
+            .as("Windowed tracker (%d us) vs re-scanning every window (%d us)", trackerTime / 1_000, rescanTime / 1_000)
+            .isLessThan(rescanTime);
+    }
+
+    /**
+     * Provides windows and streams with the expected answer after each char ('-' for none)
+     */
+    static Stream<Arguments> provideWindows() {
+        return Stream.of(
+            Arguments.of(1, "aab", "aab"),
+            Arguments.of(2, "aab", "a-a"),
+            Arguments.of(3, "aabc", "a-ba"),
+            Arguments.of(3, "abcd", "aaab"),
+            Arguments.of(3, "abab", "aaba"),
+            Arguments.of(4, "abcabc", "aaabca"),
+            Arguments.of(2, "aaaa", "a---"),
+            Arguments.of(5, "mississippi", "mmmmm-i-pis"),
+            Arguments.of(100, "abcabc", "aaabc-"),
+            Arguments.of(2, "中a中", "中中a")
+        );
+    }
+}
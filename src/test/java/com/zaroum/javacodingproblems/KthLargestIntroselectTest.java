@@ -0,0 +1,414 @@
+package com.zaroum.javacodingproblems;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Kth Largest Element - Introselect Tests
+ *
+ * Problem Description:
+ * Given an array of primitive values (int[], long[] or double[]) and an integer k, find the
+ * kth largest element (k=0 is the largest) without sorting the whole array and without
+ * modifying the caller's array.
+ *
+ * Examples:
+ * - [3,1,4,1,5] with k=0 → 5
+ * - [3,1,4,1,5] with k=3 → 1
+ * - [2.5,-1.0,7.25] with k=1 → 2.5
+ *
+ * Algorithm (Introselect):
+ * 1. Copy the input so the caller's data is left untouched
+ * 2. Translate "kth largest" into the ascending index n-1-k
+ * 3. Pick a median-of-three pivot and run a three-way (Dutch flag) partition
+ * 4. Continue only into the side that contains the target index
+ * 5. If the recursion depth exceeds 2*log2(n), sort the remaining range instead
+ * 6. Finish small ranges with insertion sort
+ *
+ * Implementation Details:
+ * - One specialization per primitive type, so no boxing and no comparator calls
+ * - Three-way partitioning keeps inputs with many duplicates linear
+ * - double[] uses the Double.compare total order (-0.0 before 0.0, NaN largest)
+ * - Invalid k values throw IndexOutOfBoundsException
+ *
+ * Time Complexity: O(n) expected, O(n log n) worst case thanks to the depth limit
+ * Space Complexity: O(n) for the defensive copy, O(1) for {@code kthLargestInPlace}
+ */
+@DisplayName("Kth Largest Element Introselect Tests")
+public class KthLargestIntroselectTest {
+
+    /**
+     * Introselect over primitive arrays. {@code select} methods rearrange {@code a[from, to)} so that
+     * {@code a[index]} holds the value it would have after an ascending sort, with smaller-or-equal
+     * values before it and greater-or-equal values after it.
+     */
+    static final class Introselect {
+
+        private static final int INSERTION_SORT_THRESHOLD = 16;
+
+        private Introselect() {
+        }
+
+        static int kthLargest(int[] values, int k) {
+            return kthLargestInPlace(values.clone(), k);
+        }
+
+        static long kthLargest(long[] values, int k) {
+            return kthLargestInPlace(values.clone(), k);
+        }
+
+        static double kthLargest(double[] values, int k) {
+            return kthLargestInPlace(values.clone(), k);
+        }
+
+        static int kthLargestInPlace(int[] values, int k) {
+            int index = values.length - 1 - Objects.checkIndex(k, values.length);
+            select(values, 0, values.length, index);
+            return values[index];
+        }
+
+        static long kthLargestInPlace(long[] values, int k) {
+            int index = values.length - 1 - Objects.checkIndex(k, values.length);
+            select(values, 0, values.length, index);
+            return values[index];
+        }
+
+        static double kthLargestInPlace(double[] values, int k) {
+            int index = values.length - 1 - Objects.checkIndex(k, values.length);
+            select(values, 0, values.length, index);
+            return values[index];
+        }
+
+        static void select(int[] a, int from, int to, int index) {
+            int depthLimit = depthLimit(to - from);
+            while (to - from > INSERTION_SORT_THRESHOLD) {
+                if (depthLimit-- == 0) {
+                    Arrays.sort(a, from, to);
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                int pivot = medianOfThree(a[from], a[mid], a[to - 1]);
+
+                // Three-way partition: [from, lt) < pivot, [lt, gt) == pivot, [gt, to) > pivot
+                int lt = from;
+                int gt = to;
+                int i = from;
+                while (i < gt) {
+                    int v = a[i];
+                    if (v < pivot) {
+                        a[i++] = a[lt];
+                        a[lt++] = v;
+                    } else if (v > pivot) {
+                        a[i] = a[--gt];
+                        a[gt] = v;
+                    } else {
+                        i++;
+                    }
+                }
+
+                if (index < lt) {
+                    to = lt;
+                } else if (index >= gt) {
+                    from = gt;
+                } else {
+                    return;
+                }
+            }
+            for (int i = from + 1; i < to; i++) {
+                int v = a[i];
+                int j = i - 1;
+                while (j >= from && a[j] > v) {
+                    a[j + 1] = a[j];
+                    j--;
+                }
+                a[j + 1] = v;
+            }
+        }
+
+        static void select(long[] a, int from, int to, int index) {
+            int depthLimit = depthLimit(to - from);
+            while (to - from > INSERTION_SORT_THRESHOLD) {
+                if (depthLimit-- == 0) {
+                    Arrays.sort(a, from, to);
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                long pivot = medianOfThree(a[from], a[mid], a[to - 1]);
+
+                int lt = from;
+                int gt = to;
+                int i = from;
+                while (i < gt) {
+                    long v = a[i];
+                    if (v < pivot) {
+                        a[i++] = a[lt];
+                        a[lt++] = v;
+                    } else if (v > pivot) {
+                        a[i] = a[--gt];
+                        a[gt] = v;
+                    } else {
+                        i++;
+                    }
+                }
+
+                if (index < lt) {
+                    to = lt;
+                } else if (index >= gt) {
+                    from = gt;
+                } else {
+                    return;
+                }
+            }
+            for (int i = from + 1; i < to; i++) {
+                long v = a[i];
+                int j = i - 1;
+                while (j >= from && a[j] > v) {
+                    a[j + 1] = a[j];
+                    j--;
+                }
+                a[j + 1] = v;
+            }
+        }
+
+        static void select(double[] a, int from, int to, int index) {
+            int depthLimit = depthLimit(to - from);
+            while (to - from > INSERTION_SORT_THRESHOLD) {
+                if (depthLimit-- == 0) {
+                    Arrays.sort(a, from, to);
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                double pivot = medianOfThree(a[from], a[mid], a[to - 1]);
+
+                int lt = from;
+                int gt = to;
+                int i = from;
+                while (i < gt) {
+                    double v = a[i];
+                    int cmp = Double.compare(v, pivot);
+                    if (cmp < 0) {
+                        a[i++] = a[lt];
+                        a[lt++] = v;
+                    } else if (cmp > 0) {
+                        a[i] = a[--gt];
+                        a[gt] = v;
+                    } else {
+                        i++;
+                    }
+                }
+
+                if (index < lt) {
+                    to = lt;
+                } else if (index >= gt) {
+                    from = gt;
+                } else {
+                    return;
+                }
+            }
+            for (int i = from + 1; i < to; i++) {
+                double v = a[i];
+                int j = i - 1;
+                while (j >= from && Double.compare(a[j], v) > 0) {
+                    a[j + 1] = a[j];
+                    j--;
+                }
+                a[j + 1] = v;
+            }
+        }
+
+        private static int depthLimit(int length) {
+            return 2 * (32 - Integer.numberOfLeadingZeros(Math.max(length, 1)));
+        }
+
+        private static int medianOfThree(int a, int b, int c) {
+            return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+        }
+
+        private static long medianOfThree(long a, long b, long c) {
+            return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+        }
+
+        private static double medianOfThree(double a, double b, double c) {
+            if (Double.compare(a, b) > 0) {
+                double t = a;
+                a = b;
+                b = t;
+            }
+            if (Double.compare(b, c) > 0) {
+                b = c;
+            }
+            return Double.compare(a, b) > 0 ? a : b;
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideIntArrays")
+    @DisplayName("Should find kth largest int for every rank")
+    void shouldFindKthLargestIntForEveryRank(int[] values, String description) {
+        // Given
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        // When & Then
+        for (int k = 0; k < values.length; k++) {
+            assertThat(Introselect.kthLargest(values, k))
+                .as("Testing int introselect: %s, k=%d", description, k)
+                .isEqualTo(sorted[sorted.length - 1 - k]);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideLongArrays")
+    @DisplayName("Should find kth largest long for every rank")
+    void shouldFindKthLargestLongForEveryRank(long[] values, String description) {
+        // Given
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        // When & Then
+        for (int k = 0; k < values.length; k++) {
+            assertThat(Introselect.kthLargest(values, k))
+                .as("Testing long introselect: %s, k=%d", description, k)
+                .isEqualTo(sorted[sorted.length - 1 - k]);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideDoubleArrays")
+    @DisplayName("Should find kth largest double for every rank")
+    void shouldFindKthLargestDoubleForEveryRank(double[] values, String description) {
+        // Given
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        // When & Then
+        for (int k = 0; k < values.length; k++) {
+            assertThat(Double.compare(Introselect.kthLargest(values, k), sorted[sorted.length - 1 - k]))
+                .as("Testing double introselect: %s, k=%d", description, k)
+                .isZero();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideIntArrays")
+    @DisplayName("Should leave the caller's array untouched")
+    void shouldLeaveCallersArrayUntouched(int[] values, String description) {
+        // Given
+        int[] original = values.clone();
+
+        // When
+        Introselect.kthLargest(values, values.length / 2);
+
+        // Then
+        assertThat(values)
+            .as("Testing input is not mutated: %s", description)
+            .containsExactly(original);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideAdversarialArrays")
+    @DisplayName("Should stay fast on adversarial inputs")
+    void shouldStayFastOnAdversarialInputs(int[] values, int k, String description) {
+        // Given
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        // When
+        long startTime = System.nanoTime();
+        int result = Introselect.kthLargest(values, k);
+        long executionTime = System.nanoTime() - startTime;
+
+        // Then
+        assertThat(result)
+            .as("Testing adversarial input: %s", description)
+            .isEqualTo(sorted[sorted.length - 1 - k]);
+        assertThat(executionTime)
+            .as("Execution time should be reasonable for %s", description)
+            .isLessThan(500_000_000L); // 500ms in nanoseconds
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideInvalidKValues")
+    @DisplayName("Should throw for invalid k values")
+    void shouldThrowForInvalidKValues(int[] values, int k, String description) {
+        // When & Then
+        assertThatThrownBy(() -> Introselect.kthLargest(values, k))
+            .as("Testing invalid k values: %s", description)
+            .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    // Test data providers
+    static Stream<Arguments> provideIntArrays() {
+        Random random = new Random(42);
+        return Stream.of(
+            Arguments.of(new int[]{5}, "Single element"),
+            Arguments.of(new int[]{3, 1, 4, 1, 5}, "Small array with duplicates"),
+            Arguments.of(new int[]{-2, 0, 3, -1, 5}, "Mixed signs"),
+            Arguments.of(new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1, 1}, "Extreme values"),
+            Arguments.of(random.ints(200, -50, 50).toArray(), "Random with many duplicates"),
+            Arguments.of(random.ints(300).toArray(), "Random full int range"),
+            Arguments.of(IntStream.range(0, 100).toArray(), "Ascending"),
+            Arguments.of(IntStream.range(0, 100).map(i -> 100 - i).toArray(), "Descending"),
+            Arguments.of(IntStream.range(0, 100).map(i -> 7).toArray(), "All equal")
+        );
+    }
+
+    static Stream<Arguments> provideLongArrays() {
+        Random random = new Random(7);
+        return Stream.of(
+            Arguments.of(new long[]{42L}, "Single element"),
+            Arguments.of(new long[]{10L, 20L, 30L}, "Small ascending"),
+            Arguments.of(new long[]{Long.MIN_VALUE, Long.MAX_VALUE, 0L, -1L}, "Extreme values"),
+            Arguments.of(random.longs(250).toArray(), "Random full long range"),
+            Arguments.of(random.longs(250, 0, 10).toArray(), "Random with many duplicates")
+        );
+    }
+
+    static Stream<Arguments> provideDoubleArrays() {
+        Random random = new Random(3);
+        return Stream.of(
+            Arguments.of(new double[]{2.5, -1.0, 7.25}, "Small mixed"),
+            Arguments.of(new double[]{0.0, -0.0, 0.0, -0.0}, "Signed zeros"),
+            Arguments.of(new double[]{1.0, Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY}, "NaN and infinities"),
+            Arguments.of(random.doubles(250).toArray(), "Random uniform"),
+            Arguments.of(random.doubles(250).map(d -> Math.floor(d * 5)).toArray(), "Random with many duplicates")
+        );
+    }
+
+    static Stream<Arguments> provideAdversarialArrays() {
+        int n = 1_000_000;
+        int[] organPipe = IntStream.range(0, n).map(i -> i < n / 2 ? i : n - i).toArray();
+        int[] sawtooth = IntStream.range(0, n).map(i -> i % 1_000).toArray();
+        int[] medianOfThreeKiller = new int[n];
+        for (int i = 0; i < n / 2; i++) {
+            medianOfThreeKiller[2 * i] = i % 2 == 0 ? i + 1 : n / 2 + i;
+            medianOfThreeKiller[2 * i + 1] = 2 * i + 2 > n ? 0 : 2 * i + 2;
+        }
+        return Stream.of(
+            Arguments.of(IntStream.range(0, n).toArray(), n / 2, "Ascending, median rank"),
+            Arguments.of(IntStream.range(0, n).map(i -> n - i).toArray(), n / 2, "Descending, median rank"),
+            Arguments.of(new int[n], n / 3, "All zeros"),
+            Arguments.of(organPipe, n / 4, "Organ pipe"),
+            Arguments.of(sawtooth, n / 2, "Sawtooth"),
+            Arguments.of(medianOfThreeKiller, n / 2, "Median-of-three killer pattern")
+        );
+    }
+
+    static Stream<Arguments> provideInvalidKValues() {
+        return Stream.of(
+            Arguments.of(new int[]{1, 2, 3}, -1, "Negative k value"),
+            Arguments.of(new int[]{1, 2, 3}, 3, "k equals array length"),
+            Arguments.of(new int[]{1, 2, 3}, 5, "k greater than array length"),
+            Arguments.of(new int[0], 0, "Empty array")
+        );
+    }
+}
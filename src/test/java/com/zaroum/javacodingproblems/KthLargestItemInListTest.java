@@ -29,18 +29,19 @@ import static org.assertj.core.api.Assertions.*;
  * 
  * Algorithm:
  * 1. Handle edge cases (null/empty list)
- * 2. Sort the list in descending order
- * 3. Return element at index k
+ * 2. Unbox the list once into a primitive int[] scratch copy
+ * 3. Run introselect on the copy to place the kth largest element (see {@link KthLargestIntroselectTest})
  * 4. Throw IndexOutOfBoundsException for invalid k values
  * 
  * Implementation Details:
- * - Uses in-place sorting with custom comparator (descending order)
- * - Handles duplicate elements (they maintain their positions after sorting)
+ * - The caller's list is never modified
+ * - No comparator calls and no unboxing inside the selection loop
+ * - Handles duplicate elements with a three-way partition
  * - Supports negative numbers and zero
  * - Validates k bounds (must be within [0, list.size()-1])
  * 
- * Time Complexity: O(n log n) where n is the size of the list (due to sorting)
- * Space Complexity: O(1) for in-place sorting (excluding input list)
+ * Time Complexity: O(n) expected, O(n log n) worst case, where n is the size of the list
+ * Space Complexity: O(n) for the primitive scratch copy
  */
 @DisplayName("Kth Largest Element In List Tests")
 public class KthLargestItemInListTest {
@@ -50,8 +51,8 @@ public class KthLargestItemInListTest {
            return null;
        }
 
-       list.sort((o1, o2) -> o2 - o1);
-       return list.get(k);
+       int[] values = list.stream().mapToInt(Integer::intValue).toArray();
+       return KthLargestIntroselectTest.Introselect.kthLargestInPlace(values, k);
     }
 
     @ParameterizedTest
@@ -155,6 +156,22 @@ public class KthLargestItemInListTest {
             .isInstanceOf(IndexOutOfBoundsException.class);
     }
 
+    @ParameterizedTest
+    @MethodSource("provideValidKthLargestCases")
+    @DisplayName("Should not modify the input list")
+    void shouldNotModifyTheInputList(List<Integer> list, int k, Integer expected, String description) {
+        // Given
+        List<Integer> original = List.copyOf(list);
+
+        // When
+        getKthLargestElementInTheList(list, k);
+
+        // Then
+        assertThat(list)
+            .as("Testing input is not mutated: %s", description)
+            .containsExactlyElementsOf(original);
+    }
+
     // Test data providers
     static Stream<Arguments> provideNullAndEmptyLists() {
         return Stream.of(
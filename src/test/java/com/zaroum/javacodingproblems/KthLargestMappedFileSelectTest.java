@@ -0,0 +1,283 @@
+package com.zaroum.javacodingproblems;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Kth Largest Element - Memory-Mapped File Selection Tests
+ *
+ * Problem Description:
+ * Find the kth largest element (k=0 is the largest) of a raw binary file of little-endian int64
+ * values that may be much larger than the heap. Heap usage must stay bounded regardless of the
+ * file size.
+ *
+ * Examples:
+ * - file [3,1,4,1,5] (40 bytes) with k=0 → 5
+ * - a 100 GB dump with k=n/100 → its p99, with at most a few MB of heap in use
+ *
+ * Algorithm (MSD radix narrowing + final in-memory select):
+ * 1. Map the file window by window through FileChannel.map and read values as a LongBuffer
+ * 2. Flip the sign bit of every value so that unsigned key order equals signed value order
+ * 3. Build a 65536-entry histogram of the next 16 key bits, only counting values whose higher
+ *    bits match the prefix fixed so far
+ * 4. Walk the histogram to find the digit whose bucket holds the target rank, append it to the
+ *    prefix and subtract the values below it from the rank
+ * 5. Repeat until the bucket fits in the in-memory budget (or all 64 bits are fixed, in which
+ *    case every candidate is equal to the prefix)
+ * 6. Collect the remaining candidates into a long[] and finish with introselect
+ *    (see {@link KthLargestIntroselectTest})
+ *
+ * Implementation Details:
+ * - Heap usage is one long[65536] histogram plus at most maxInMemoryValues longs
+ * - Mapped windows are released by the OS page cache, not the Java heap
+ * - Ranks and counts are longs so files with more than 2^31 values are supported
+ * - A file whose size is not a multiple of 8 is rejected with IllegalArgumentException
+ *
+ * Time Complexity: O(n) per pass, at most 4 histogram passes plus one collection pass
+ * Space Complexity: O(2^16 + maxInMemoryValues) heap
+ */
+@DisplayName("Kth Largest Element Memory-Mapped File Selection Tests")
+public class KthLargestMappedFileSelectTest {
+
+    /**
+     * File-backed kth-largest over raw little-endian int64 values.
+     */
+    static final class MappedFileSelect {
+
+        static final int DEFAULT_WINDOW_BYTES = 64 << 20;
+        static final int DEFAULT_MAX_IN_MEMORY_VALUES = 1 << 20;
+
+        private static final int DIGIT_BITS = 16;
+        private static final int RADIX = 1 << DIGIT_BITS;
+
+        private final int windowBytes;
+        private final int maxInMemoryValues;
+
+        MappedFileSelect() {
+            this(DEFAULT_WINDOW_BYTES, DEFAULT_MAX_IN_MEMORY_VALUES);
+        }
+
+        MappedFileSelect(int windowBytes, int maxInMemoryValues) {
+            if (windowBytes < Long.BYTES || windowBytes % Long.BYTES != 0) {
+                throw new IllegalArgumentException("windowBytes must be a positive multiple of 8 but was " + windowBytes);
+            }
+            if (maxInMemoryValues < 1) {
+                throw new IllegalArgumentException("maxInMemoryValues must be >= 1 but was " + maxInMemoryValues);
+            }
+            this.windowBytes = windowBytes;
+            this.maxInMemoryValues = maxInMemoryValues;
+        }
+
+        long kthLargest(Path file, long k) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size % Long.BYTES != 0) {
+                    throw new IllegalArgumentException("File size " + size + " is not a multiple of 8: " + file);
+                }
+                long n = size / Long.BYTES;
+                long rank = n - 1 - Objects.checkIndex(k, n);
+
+                long prefix = 0;
+                int prefixBits = 0;
+                long candidates = n;
+                long[] histogram = new long[RADIX];
+
+                while (candidates > maxInMemoryValues) {
+                    if (prefixBits == Long.SIZE) {
+                        return prefix ^ Long.MIN_VALUE;
+                    }
+                    Arrays.fill(histogram, 0);
+                    long matchPrefix = prefix;
+                    int matchBits = prefixBits;
+                    int shift = Long.SIZE - prefixBits - DIGIT_BITS;
+                    forEachValue(channel, size, value -> {
+                        long key = value ^ Long.MIN_VALUE;
+                        if (matches(key, matchPrefix, matchBits)) {
+                            histogram[(int) (key >>> shift) & (RADIX - 1)]++;
+                        }
+                    });
+
+                    int digit = 0;
+                    while (rank >= histogram[digit]) {
+                        rank -= histogram[digit];
+                        digit++;
+                    }
+                    prefix = prefix << DIGIT_BITS | digit;
+                    prefixBits += DIGIT_BITS;
+                    candidates = histogram[digit];
+                }
+
+                long[] buffer = new long[(int) candidates];
+                int[] filled = new int[1];
+                long matchPrefix = prefix;
+                int matchBits = prefixBits;
+                forEachValue(channel, size, value -> {
+                    if (matches(value ^ Long.MIN_VALUE, matchPrefix, matchBits)) {
+                        buffer[filled[0]++] = value;
+                    }
+                });
+                KthLargestIntroselectTest.Introselect.select(buffer, 0, buffer.length, (int) rank);
+                return buffer[(int) rank];
+            }
+        }
+
+        private static boolean matches(long key, long prefix, int prefixBits) {
+            return prefixBits == 0 || key >>> (Long.SIZE - prefixBits) == prefix;
+        }
+
+        private void forEachValue(FileChannel channel, long size, LongConsumer action) throws IOException {
+            for (long position = 0; position < size; position += windowBytes) {
+                long length = Math.min(windowBytes, size - position);
+                LongBuffer values = channel.map(FileChannel.MapMode.READ_ONLY, position, length)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asLongBuffer();
+                for (int i = 0, count = values.remaining(); i < count; i++) {
+                    action.accept(values.get(i));
+                }
+            }
+        }
+    }
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @MethodSource("provideFileContents")
+    @DisplayName("Should match sorting for several ranks, windows and memory budgets")
+    void shouldMatchSortingForSeveralRanksWindowsAndBudgets(long[] values, String description) throws IOException {
+        // Given
+        Path file = writeLittleEndian(values, description);
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int n = values.length;
+        int[] ranks = {0, 1, n / 100, n / 2, n - 2, n - 1};
+
+        for (MappedFileSelect select : new MappedFileSelect[]{
+            new MappedFileSelect(4_096, 100),
+            new MappedFileSelect(1 << 20, 10_000),
+            new MappedFileSelect()}) {
+            for (int k : ranks) {
+                // When
+                long result = select.kthLargest(file, k);
+
+                // Then
+                assertThat(result)
+                    .as("Testing mapped select: %s, k=%d", description, k)
+                    .isEqualTo(sorted[n - 1 - k]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should find kth largest on a tiny file with a one-value budget")
+    void shouldFindKthLargestOnTinyFileWithOneValueBudget() throws IOException {
+        // Given
+        Path file = writeLittleEndian(new long[]{3, 1, 4, 1, 5}, "tiny");
+        MappedFileSelect select = new MappedFileSelect(8, 1);
+
+        // When & Then
+        assertThat(select.kthLargest(file, 0)).isEqualTo(5L);
+        assertThat(select.kthLargest(file, 1)).isEqualTo(4L);
+        assertThat(select.kthLargest(file, 2)).isEqualTo(3L);
+        assertThat(select.kthLargest(file, 3)).isEqualTo(1L);
+        assertThat(select.kthLargest(file, 4)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid ranks, files and configurations")
+    void shouldRejectInvalidUsage() throws IOException {
+        // Given
+        Path empty = writeLittleEndian(new long[0], "empty");
+        Path truncated = tempDir.resolve("truncated.bin");
+        Files.write(truncated, new byte[12]);
+        Path three = writeLittleEndian(new long[]{1, 2, 3}, "three");
+        MappedFileSelect select = new MappedFileSelect();
+
+        // When & Then
+        assertThatThrownBy(() -> select.kthLargest(empty, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> select.kthLargest(three, 3)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> select.kthLargest(truncated, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MappedFileSelect(12, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MappedFileSelect(8, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Larger file read with a small in-memory budget: the heap never holds more than the
+     * histogram and 64K candidate values although the file has 8M values (64 MB).
+     */
+    @Test
+    @DisplayName("Should select from a 64 MB file with a 64K-value budget")
+    void shouldSelectFromLargeFileWithSmallBudget() throws IOException {
+        // Given
+        int n = 8_000_000;
+        long[] values = new Random(64).longs(n).toArray();
+        Path file = writeLittleEndian(values, "large");
+        long k = n / 1000;
+        long expected = KthLargestIntroselectTest.Introselect.kthLargest(values, (int) k);
+        values = null;
+
+        // When
+        long result = new MappedFileSelect(8 << 20, 1 << 16).kthLargest(file, k);
+
+        // Then
+        assertThat(result).isEqualTo(expected);
+    }
+
+    private Path writeLittleEndian(long[] values, String name) throws IOException {
+        Path file = tempDir.resolve(name.replaceAll("[^A-Za-z0-9]", "_") + ".bin");
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (long value : values) {
+                if (!buffer.hasRemaining()) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                buffer.putLong(value);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        return file;
+    }
+
+    // Test data providers
+    static Stream<Arguments> provideFileContents() {
+        int n = 200_000;
+        Random random = new Random(77);
+        return Stream.of(
+            Arguments.of(random.longs(n).toArray(), "Random full long range"),
+            Arguments.of(random.longs(n, -1_000, 1_000).toArray(), "Small range around zero"),
+            Arguments.of(random.longs(n, 0, 3).toArray(), "Three distinct values"),
+            Arguments.of(new long[n], "All zeros"),
+            Arguments.of(LongStream.range(0, n).map(i -> i % 2 == 0 ? Long.MIN_VALUE : Long.MAX_VALUE).toArray(), "Extremes only"),
+            Arguments.of(LongStream.range(0, n).map(i -> random.nextLong() >>> 20 | 0x7FF0_0000_0000_0000L).toArray(), "Shared high bits"),
+            Arguments.of(LongStream.range(0, n).map(i -> -i).toArray(), "Descending negatives")
+        );
+    }
+}
@@ -0,0 +1,289 @@
+package com.zaroum.javacodingproblems;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Kth Largest Element - Multi-Rank Selection Tests
+ *
+ * Problem Description:
+ * Given an array of integers and several ranks k1, k2, ... (k=0 is the largest), return the
+ * kth largest element for every requested rank in a single call, in the order the ranks were
+ * requested. Percentiles such as p50/p90/p99/p999 are a typical use.
+ *
+ * Examples:
+ * - [3,1,4,1,5] with ranks [0, 4, 2] → [5, 1, 3]
+ * - [3,1,4,1,5] with ranks [1, 1] → [4, 4]
+ * - 1..1000 with percentiles [50, 90, 99] → [500, 900, 990]
+ *
+ * Algorithm (multiselect):
+ * 1. Translate every rank into its ascending index n-1-k, sort and deduplicate these targets
+ * 2. Three-way partition the range around a median-of-three pivot
+ * 3. Targets that land in the "equal to pivot" block are resolved immediately
+ * 4. Recurse only into the sides that still contain targets, splitting the target list with a
+ *    binary search
+ * 5. A side holding a single target is finished with introselect (see {@link KthLargestIntroselectTest})
+ * 6. If the depth limit is exceeded, sort the remaining range instead
+ *
+ * Implementation Details:
+ * - Partitioning work above the targets is shared, so n values are touched about once plus
+ *   O(n log m) for m distinct targets, instead of once per rank
+ * - The caller's array is left untouched
+ * - Percentiles use the nearest-rank definition: the ceil(p/100 * n)-th smallest value
+ *
+ * Time Complexity: O(n log m) expected for m distinct ranks, O(n log n) worst case
+ * Space Complexity: O(n) for the scratch copy plus O(m) for the targets
+ */
+@DisplayName("Kth Largest Element Multi-Rank Selection Tests")
+public class KthLargestMultiRankSelectTest {
+
+    /**
+     * Resolves several order statistics with shared partitioning.
+     */
+    static final class MultiSelect {
+
+        private static final int INSERTION_SORT_THRESHOLD = 16;
+
+        private MultiSelect() {
+        }
+
+        static int[] kthLargest(int[] values, int... ranks) {
+            int n = values.length;
+            int[] indices = new int[ranks.length];
+            for (int i = 0; i < ranks.length; i++) {
+                indices[i] = n - 1 - Objects.checkIndex(ranks[i], n);
+            }
+
+            int[] targets = indices.clone();
+            Arrays.sort(targets);
+            int distinct = 0;
+            for (int target : targets) {
+                if (distinct == 0 || targets[distinct - 1] != target) {
+                    targets[distinct++] = target;
+                }
+            }
+
+            int[] a = values.clone();
+            select(a, 0, n, targets, 0, distinct, 2 * (32 - Integer.numberOfLeadingZeros(Math.max(n, 1))));
+
+            int[] result = new int[ranks.length];
+            for (int i = 0; i < ranks.length; i++) {
+                result[i] = a[indices[i]];
+            }
+            return result;
+        }
+
+        /**
+         * @param percentiles nearest-rank percentiles in (0, 100], e.g. 50, 90, 99, 99.9
+         */
+        static int[] percentiles(int[] values, double... percentiles) {
+            int[] ranks = new int[percentiles.length];
+            for (int i = 0; i < percentiles.length; i++) {
+                double p = percentiles[i];
+                if (!(p > 0 && p <= 100)) {
+                    throw new IllegalArgumentException("Percentile must be in (0, 100] but was " + p);
+                }
+                int ascendingIndex = Math.max(0, (int) Math.ceil(p * values.length / 100) - 1);
+                ranks[i] = values.length - 1 - ascendingIndex;
+            }
+            return kthLargest(values, ranks);
+        }
+
+        private static void select(int[] a, int from, int to, int[] targets, int targetFrom, int targetTo, int depthLimit) {
+            while (targetFrom < targetTo) {
+                if (targetTo - targetFrom == 1) {
+                    KthLargestIntroselectTest.Introselect.select(a, from, to, targets[targetFrom]);
+                    return;
+                }
+                if (to - from <= INSERTION_SORT_THRESHOLD || depthLimit-- == 0) {
+                    Arrays.sort(a, from, to);
+                    return;
+                }
+
+                int mid = (from + to) >>> 1;
+                int pivot = Math.max(Math.min(a[from], a[mid]), Math.min(Math.max(a[from], a[mid]), a[to - 1]));
+
+                // Three-way partition: [from, lt) < pivot, [lt, gt) == pivot, [gt, to) > pivot
+                int lt = from;
+                int gt = to;
+                int i = from;
+                while (i < gt) {
+                    int v = a[i];
+                    if (v < pivot) {
+                        a[i++] = a[lt];
+                        a[lt++] = v;
+                    } else if (v > pivot) {
+                        a[i] = a[--gt];
+                        a[gt] = v;
+                    } else {
+                        i++;
+                    }
+                }
+
+                int leftEnd = lowerBound(targets, targetFrom, targetTo, lt);
+                int rightStart = lowerBound(targets, leftEnd, targetTo, gt);
+                select(a, from, lt, targets, targetFrom, leftEnd, depthLimit);
+                from = gt;
+                targetFrom = rightStart;
+            }
+        }
+
+        private static int lowerBound(int[] sorted, int from, int to, int key) {
+            while (from < to) {
+                int mid = (from + to) >>> 1;
+                if (sorted[mid] < key) {
+                    from = mid + 1;
+                } else {
+                    to = mid;
+                }
+            }
+            return from;
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideRankRequests")
+    @DisplayName("Should resolve every rank in the requested order")
+    void shouldResolveEveryRankInRequestedOrder(int[] values, int[] ranks, int[] expected, String description) {
+        // When
+        int[] result = MultiSelect.kthLargest(values, ranks);
+
+        // Then
+        assertThat(result)
+            .as("Testing multi-rank select: %s", description)
+            .containsExactly(expected);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideRandomArrays")
+    @DisplayName("Should match sorting for many random ranks")
+    void shouldMatchSortingForManyRandomRanks(int[] values, int rankCount, String description) {
+        // Given
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int[] ranks = new Random(rankCount).ints(rankCount, 0, values.length).toArray();
+
+        // When
+        int[] result = MultiSelect.kthLargest(values, ranks);
+
+        // Then
+        for (int i = 0; i < ranks.length; i++) {
+            assertThat(result[i])
+                .as("Testing %s, rank %d", description, ranks[i])
+                .isEqualTo(sorted[sorted.length - 1 - ranks[i]]);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideRandomArrays")
+    @DisplayName("Should leave the caller's array untouched")
+    void shouldLeaveCallersArrayUntouched(int[] values, int rankCount, String description) {
+        // Given
+        int[] original = values.clone();
+
+        // When
+        MultiSelect.kthLargest(values, 0, values.length / 2, values.length - 1);
+
+        // Then
+        assertThat(values)
+            .as("Testing input is not mutated: %s", description)
+            .isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("Should compute nearest-rank percentiles")
+    void shouldComputeNearestRankPercentiles() {
+        // Given
+        int[] values = IntStream.rangeClosed(1, 1000).map(i -> 1001 - i).toArray();
+
+        // When
+        int[] result = MultiSelect.percentiles(values, 50, 90, 99, 99.9, 100);
+
+        // Then
+        assertThat(result).containsExactly(500, 900, 990, 999, 1000);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid ranks and percentiles")
+    void shouldRejectInvalidRanksAndPercentiles() {
+        // When & Then
+        assertThatThrownBy(() -> MultiSelect.kthLargest(new int[]{1, 2, 3}, 0, 3))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> MultiSelect.kthLargest(new int[0], 0))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> MultiSelect.percentiles(new int[]{1, 2, 3}, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MultiSelect.percentiles(new int[]{1, 2, 3}, 100.5))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Performance test comparing one multi-rank call with re-sorting the boxed list once per
+     * percentile, which is what repeated calls to getKthLargestElementInTheList did.
+     */
+    @Test
+    @DisplayName("Should outperform one list sort per percentile")
+    void shouldOutperformOneListSortPerPercentile() {
+        // Given
+        int n = 2_000_000;
+        int[] values = new Random(17).ints(n).toArray();
+        int[] ranks = {n / 2, n / 10, n / 100, n / 1000};
+        MultiSelect.kthLargest(values, ranks); // warm-up
+
+        // When
+        long sortStart = System.nanoTime();
+        int[] expected = new int[ranks.length];
+        for (int i = 0; i < ranks.length; i++) {
+            List<Integer> list = Arrays.stream(values).boxed().collect(Collectors.toList());
+            list.sort((o1, o2) -> Integer.compare(o2, o1));
+            expected[i] = list.get(ranks[i]);
+        }
+        long sortTime = System.nanoTime() - sortStart;
+
+        long selectStart = System.nanoTime();
+        int[] result = MultiSelect.kthLargest(values, ranks);
+        long selectTime = System.nanoTime() - selectStart;
+
+        // Then
+        assertThat(result).containsExactly(expected);
+        assertThat(selectTime)
+            .as("Multi-rank select (%d ms) vs one list sort per rank (%d ms)", selectTime / 1_000_000, sortTime / 1_000_000)
+            .isLessThan(sortTime);
+    }
+
+    // Test data providers
+    static Stream<Arguments> provideRankRequests() {
+        return Stream.of(
+            Arguments.of(new int[]{3, 1, 4, 1, 5}, new int[]{0, 4, 2}, new int[]{5, 1, 3}, "Unsorted ranks"),
+            Arguments.of(new int[]{3, 1, 4, 1, 5}, new int[]{1, 1}, new int[]{4, 4}, "Duplicate ranks"),
+            Arguments.of(new int[]{3, 1, 4, 1, 5}, new int[]{}, new int[]{}, "No ranks"),
+            Arguments.of(new int[]{5, 5, 5}, new int[]{2, 0, 1}, new int[]{5, 5, 5}, "All same elements"),
+            Arguments.of(new int[]{-2, 0, 3, -1, 5}, new int[]{4, 3, 2, 1, 0}, new int[]{-2, -1, 0, 3, 5}, "Every rank, mixed signs"),
+            Arguments.of(new int[]{42}, new int[]{0}, new int[]{42}, "Single element")
+        );
+    }
+
+    static Stream<Arguments> provideRandomArrays() {
+        Random random = new Random(23);
+        return Stream.of(
+            Arguments.of(random.ints(10_000).toArray(), 4, "Random, 4 ranks"),
+            Arguments.of(random.ints(10_000).toArray(), 200, "Random, 200 ranks"),
+            Arguments.of(random.ints(10_000, 0, 20).toArray(), 50, "Few distinct values"),
+            Arguments.of(IntStream.range(0, 10_000).toArray(), 30, "Ascending"),
+            Arguments.of(new int[10_000], 10, "All zeros")
+        );
+    }
+}
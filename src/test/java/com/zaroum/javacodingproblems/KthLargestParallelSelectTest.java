@@ -0,0 +1,421 @@
+package com.zaroum.javacodingproblems;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Kth Largest Element - Parallel Selection Tests
+ *
+ * Problem Description:
+ * Find the kth largest element (k=0 is the largest) of a very large int[] using every core
+ * of the machine, without modifying the caller's array.
+ *
+ * Examples:
+ * - 50M random ints with k=0 → the maximum, found in a couple of parallel passes
+ * - [5,5,5,...,5] with any k → 5, found in a single counting pass
+ *
+ * Algorithm (parallel sample select):
+ * 1. Split the current range into leaves and draw a few random samples from every leaf in parallel
+ * 2. Sort the (small) sample and pick up to 255 distinct splitters from it
+ * 3. Count, per leaf and in parallel, how many values fall strictly between consecutive splitters
+ *    and how many are equal to each splitter
+ * 4. Sum the leaf histograms and locate the bucket that holds the target rank
+ * 5. If it is an "equal to splitter" bucket, the splitter is the answer
+ * 6. Otherwise gather only that bucket into a compact array (per-leaf prefix offsets, in parallel)
+ *    and repeat on it
+ * 7. Below the sequential cutoff, finish with introselect (see {@link KthLargestIntroselectTest})
+ *
+ * Implementation Details:
+ * - Every value of the current range is read twice per round (count + gather), and each round
+ *   shrinks the range by roughly the number of buckets
+ * - The count pass walks the splitters laid out as an implicit search tree without branching, four
+ *   values at a time; the gather pass only compares each value with the two splitters around the
+ *   target bucket
+ * - Equal-to-splitter buckets make inputs with few distinct values terminate early
+ * - The pool and the sequential cutoff are configurable
+ *
+ * Time Complexity: O(n / p + p * b) per round with p workers and b buckets, O(log_b n) rounds
+ * Space Complexity: O(n / b) for the first gathered bucket plus O(p * b) for the histograms
+ */
+@DisplayName("Kth Largest Element Parallel Selection Tests")
+public class KthLargestParallelSelectTest {
+
+    /**
+     * Fork/join sample select over int[].
+     */
+    static final class ParallelSelect {
+
+        static final int DEFAULT_SEQUENTIAL_CUTOFF = 1 << 18;
+
+        private static final int TREE_LEVELS = 8;
+        private static final int MAX_SPLITTERS = (1 << TREE_LEVELS) - 1;
+        private static final int SAMPLE_SIZE = 4096;
+        private static final int MIN_LEAF_SIZE = 1 << 14;
+
+        private final ForkJoinPool pool;
+        private final int sequentialCutoff;
+
+        ParallelSelect() {
+            this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_CUTOFF);
+        }
+
+        ParallelSelect(ForkJoinPool pool, int sequentialCutoff) {
+            if (sequentialCutoff < 1) {
+                throw new IllegalArgumentException("sequentialCutoff must be >= 1 but was " + sequentialCutoff);
+            }
+            this.pool = Objects.requireNonNull(pool);
+            this.sequentialCutoff = sequentialCutoff;
+        }
+
+        int kthLargest(int[] values, int k) {
+            int rank = values.length - 1 - Objects.checkIndex(k, values.length);
+            int[] current = values;
+
+            while (current.length > sequentialCutoff) {
+                int[] range = current;
+                int leaves = Math.max(1, Math.min(pool.getParallelism() * 4, range.length / MIN_LEAF_SIZE));
+                int[] splitters = sampleSplitters(range, leaves);
+                int[] tree = searchTree(splitters);
+                int buckets = 2 * splitters.length + 1;
+
+                int[][] counts = new int[leaves][buckets];
+                forEachLeaf(leaves, leaf -> countBuckets(range, leafStart(range.length, leaves, leaf),
+                    leafStart(range.length, leaves, leaf + 1), tree, splitters, counts[leaf]));
+
+                int bucket = 0;
+                long below = 0;
+                for (; bucket < buckets; bucket++) {
+                    long size = 0;
+                    for (int[] leafCounts : counts) {
+                        size += leafCounts[bucket];
+                    }
+                    if (rank < below + size) {
+                        break;
+                    }
+                    below += size;
+                }
+                if ((bucket & 1) == 1) {
+                    return splitters[bucket >>> 1];
+                }
+
+                int[] offsets = new int[leaves + 1];
+                for (int leaf = 0; leaf < leaves; leaf++) {
+                    offsets[leaf + 1] = offsets[leaf] + counts[leaf][bucket];
+                }
+                int[] next = new int[offsets[leaves]];
+                // Even bucket 2p is the open interval between splitters p-1 and p
+                long lowerBound = bucket == 0 ? Long.MIN_VALUE : splitters[(bucket >>> 1) - 1];
+                long upperBound = bucket == buckets - 1 ? Long.MAX_VALUE : splitters[bucket >>> 1];
+                forEachLeaf(leaves, leaf -> {
+                    int out = offsets[leaf];
+                    for (int i = leafStart(range.length, leaves, leaf), end = leafStart(range.length, leaves, leaf + 1); i < end; i++) {
+                        int v = range[i];
+                        if (v > lowerBound && v < upperBound) {
+                            next[out++] = v;
+                        }
+                    }
+                });
+
+                rank -= (int) below;
+                current = next;
+            }
+
+            int[] scratch = current == values ? values.clone() : current;
+            KthLargestIntroselectTest.Introselect.select(scratch, 0, scratch.length, rank);
+            return scratch[rank];
+        }
+
+        private int[] sampleSplitters(int[] range, int leaves) {
+            int perLeaf = Math.max(1, SAMPLE_SIZE / leaves);
+            int[] sample = new int[perLeaf * leaves];
+            long seed = range.length * 0x9E3779B97F4A7C15L;
+            forEachLeaf(leaves, leaf -> {
+                int start = leafStart(range.length, leaves, leaf);
+                int end = leafStart(range.length, leaves, leaf + 1);
+                SplittableRandom random = new SplittableRandom(seed + leaf);
+                for (int i = 0; i < perLeaf; i++) {
+                    sample[leaf * perLeaf + i] = range[random.nextInt(start, end)];
+                }
+            });
+            Arrays.sort(sample);
+
+            int step = Math.max(1, sample.length / (MAX_SPLITTERS + 1));
+            int[] splitters = new int[Math.min(MAX_SPLITTERS, sample.length)];
+            int count = 0;
+            for (int i = step - 1; i < sample.length && count < splitters.length; i += step) {
+                if (count == 0 || splitters[count - 1] != sample[i]) {
+                    splitters[count++] = sample[i];
+                }
+            }
+            return Arrays.copyOf(splitters, count);
+        }
+
+        /**
+         * Lays the sorted splitters out as an implicit search tree: node j (from 1) has children 2j
+         * and 2j + 1, and missing splitters are padded with Integer.MAX_VALUE.
+         */
+        private static int[] searchTree(int[] splitters) {
+            int[] tree = new int[MAX_SPLITTERS + 1];
+            fillTree(tree, splitters, 1, 0);
+            return tree;
+        }
+
+        private static int fillTree(int[] tree, int[] splitters, int node, int next) {
+            if (node > MAX_SPLITTERS) {
+                return next;
+            }
+            next = fillTree(tree, splitters, 2 * node, next);
+            tree[node] = next < splitters.length ? splitters[next] : Integer.MAX_VALUE;
+            return fillTree(tree, splitters, 2 * node + 1, next + 1);
+        }
+
+        /**
+         * Adds the bucket of every value of range[from, to) to counts. Each step down the tree is a
+         * comparison turned into 0 or 1, not a branch, and four values descend together so that
+         * their memory accesses overlap.
+         */
+        private static void countBuckets(int[] range, int from, int to, int[] tree, int[] splitters, int[] counts) {
+            int i = from;
+            for (; i + 4 <= to; i += 4) {
+                int v0 = range[i];
+                int v1 = range[i + 1];
+                int v2 = range[i + 2];
+                int v3 = range[i + 3];
+                int j0 = 1;
+                int j1 = 1;
+                int j2 = 1;
+                int j3 = 1;
+                for (int level = 0; level < TREE_LEVELS; level++) {
+                    j0 = 2 * j0 + (tree[j0] < v0 ? 1 : 0);
+                    j1 = 2 * j1 + (tree[j1] < v1 ? 1 : 0);
+                    j2 = 2 * j2 + (tree[j2] < v2 ? 1 : 0);
+                    j3 = 2 * j3 + (tree[j3] < v3 ? 1 : 0);
+                }
+                counts[bucketOf(splitters, j0 - tree.length, v0)]++;
+                counts[bucketOf(splitters, j1 - tree.length, v1)]++;
+                counts[bucketOf(splitters, j2 - tree.length, v2)]++;
+                counts[bucketOf(splitters, j3 - tree.length, v3)]++;
+            }
+            for (; i < to; i++) {
+                int v = range[i];
+                int j = 1;
+                for (int level = 0; level < TREE_LEVELS; level++) {
+                    j = 2 * j + (tree[j] < v ? 1 : 0);
+                }
+                counts[bucketOf(splitters, j - tree.length, v)]++;
+            }
+        }
+
+        /**
+         * Even bucket 2p holds values strictly between splitters p-1 and p, odd bucket 2p+1 holds
+         * values equal to splitter p.
+         *
+         * @param smaller the number of splitters smaller than value
+         */
+        private static int bucketOf(int[] splitters, int smaller, int value) {
+            return smaller < splitters.length && splitters[smaller] == value ? 2 * smaller + 1 : 2 * smaller;
+        }
+
+        private static int leafStart(int length, int leaves, int leaf) {
+            return (int) ((long) length * leaf / leaves);
+        }
+
+        private void forEachLeaf(int leaves, IntConsumer body) {
+            pool.invoke(new LeafAction(0, leaves, body));
+        }
+
+        private static final class LeafAction extends RecursiveAction {
+
+            private final int from;
+            private final int to;
+            private final IntConsumer body;
+
+            LeafAction(int from, int to, IntConsumer body) {
+                this.from = from;
+                this.to = to;
+                this.body = body;
+            }
+
+            @Override
+            protected void compute() {
+                if (to - from == 1) {
+                    body.accept(from);
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                invokeAll(new LeafAction(from, mid, body), new LeafAction(mid, to, body));
+            }
+        }
+    }
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideLargeArrays")
+    @DisplayName("Should match sorting for large arrays and several cutoffs")
+    void shouldMatchSortingForLargeArrays(int[] values, String description) {
+        // Given
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int[] ranks = {0, 1, values.length / 100, values.length / 2, values.length - 2, values.length - 1};
+
+        for (int cutoff : new int[]{1, 1_000, ParallelSelect.DEFAULT_SEQUENTIAL_CUTOFF}) {
+            ParallelSelect select = new ParallelSelect(pool, cutoff);
+            for (int k : ranks) {
+                // When
+                int result = select.kthLargest(values, k);
+
+                // Then
+                assertThat(result)
+                    .as("Testing parallel select: %s, cutoff=%d, k=%d", description, cutoff, k)
+                    .isEqualTo(sorted[sorted.length - 1 - k]);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideLargeArrays")
+    @DisplayName("Should leave the caller's array untouched")
+    void shouldLeaveCallersArrayUntouched(int[] values, String description) {
+        // Given
+        int[] original = values.clone();
+
+        // When
+        new ParallelSelect(pool, 1_000).kthLargest(values, values.length / 3);
+
+        // Then
+        assertThat(values)
+            .as("Testing input is not mutated: %s", description)
+            .isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("Should throw for invalid k values and cutoffs")
+    void shouldThrowForInvalidArguments() {
+        // When & Then
+        assertThatThrownBy(() -> new ParallelSelect().kthLargest(new int[]{1, 2, 3}, 3))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> new ParallelSelect().kthLargest(new int[0], 0))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> new ParallelSelect(pool, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Performance test against the boxed list sort that getKthLargestElementInTheList used to run.
+     */
+    @Test
+    @DisplayName("Should outperform sorting the boxed list")
+    void shouldOutperformSortingTheBoxedList() {
+        // Given
+        int n = 4_000_000;
+        int k = n / 10;
+        int[] values = new Random(99).ints(n).toArray();
+        List<Integer> list = Arrays.stream(values).boxed().collect(Collectors.toList());
+        ParallelSelect select = new ParallelSelect(pool, ParallelSelect.DEFAULT_SEQUENTIAL_CUTOFF);
+        select.kthLargest(values, k); // warm-up
+
+        // When
+        long sortStart = System.nanoTime();
+        list.sort((o1, o2) -> Integer.compare(o2, o1));
+        int expected = list.get(k);
+        long sortTime = System.nanoTime() - sortStart;
+
+        long parallelStart = System.nanoTime();
+        int parallel = select.kthLargest(values, k);
+        long parallelTime = System.nanoTime() - parallelStart;
+
+        // Then
+        assertThat(parallel).isEqualTo(expected);
+        assertThat(parallelTime)
+            .as("Parallel select (%d ms) vs list sort (%d ms) on %d workers",
+                parallelTime / 1_000_000, sortTime / 1_000_000, pool.getParallelism())
+            .isLessThan(sortTime);
+    }
+
+    /**
+     * Scaling benchmark on 16M random ints against sequential introselect, with pools of 1, 2 and
+     * 4 workers (best of 3 runs each). Pools larger than the number of cores are not measured:
+     * their workers would only time-slice. Wall-clock runs of neighbouring pool sizes can tie, so
+     * every timing is reported and only the largest pool is required to be no slower than
+     * introselect.
+     */
+    @Test
+    @DisplayName("Should keep up with introselect with the largest pool")
+    void shouldScaleWithWorkers() {
+        // Given
+        int cores = Runtime.getRuntime().availableProcessors();
+        assumeTrue(cores >= 2, "Scaling needs at least 2 cores, this machine has " + cores);
+        int n = 16_000_000;
+        int k = n / 10;
+        int[] values = new Random(99).ints(n).toArray();
+        int expected = KthLargestIntroselectTest.Introselect.kthLargest(values, k);
+
+        // When
+        long introselectTime = Measurements.bestNanos(3,
+            () -> assertThat(KthLargestIntroselectTest.Introselect.kthLargest(values, k)).isEqualTo(expected));
+        List<Long> parallelTimes = new ArrayList<>(); // index i holds the time with 2^i workers
+        StringBuilder timings = new StringBuilder(String.format("%d cores, introselect %d ms", cores, introselectTime / 1_000_000));
+        for (int workers = 1; workers <= Math.min(4, cores); workers *= 2) {
+            ForkJoinPool workerPool = new ForkJoinPool(workers);
+            try {
+                ParallelSelect select = new ParallelSelect(workerPool, ParallelSelect.DEFAULT_SEQUENTIAL_CUTOFF);
+                select.kthLargest(values, k); // warm-up
+                long time = Measurements.bestNanos(3, () -> assertThat(select.kthLargest(values, k)).isEqualTo(expected));
+                parallelTimes.add(time);
+                timings.append(String.format(", %d workers %d ms", workers, time / 1_000_000));
+            } finally {
+                workerPool.shutdown();
+            }
+        }
+
+        // Then
+        assertThat(parallelTimes.get(parallelTimes.size() - 1)).as(timings.toString()).isLessThanOrEqualTo(introselectTime);
+    }
+
+    // Test data providers
+    static Stream<Arguments> provideLargeArrays() {
+        int n = 600_000;
+        Random random = new Random(5);
+        return Stream.of(
+            Arguments.of(random.ints(n).toArray(), "Random full int range"),
+            Arguments.of(random.ints(n, 0, 50).toArray(), "Few distinct values"),
+            Arguments.of(IntStream.range(0, n).toArray(), "Ascending"),
+            Arguments.of(IntStream.range(0, n).map(i -> -i).toArray(), "Descending"),
+            Arguments.of(new int[n], "All zeros"),
+            Arguments.of(random.ints(n).map(v -> v % 3 == 0 ? Integer.MIN_VALUE : v).toArray(), "Heavy minimum value"),
+            Arguments.of(IntStream.range(0, n).map(i -> (int) Math.floor(Math.exp(random.nextGaussian() * 3))).toArray(), "Skewed log-normal")
+        );
+    }
+}
@@ -0,0 +1,428 @@
+package com.zaroum.javacodingproblems;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Kth Largest Element - Approximate Quantile Sketch Tests
+ *
+ * Problem Description:
+ * For dashboards the exact kth largest element is not needed. Instead, keep a constant-size
+ * summary of a stream of values that can answer "what is (approximately) the kth largest
+ * value / the q-quantile" with a bounded rank error, and that can be merged with summaries
+ * built by other threads.
+ *
+ * Examples:
+ * - 1..1_000_000 with q=0.5 → a value whose true rank is within ±epsilon*n of 500_000
+ * - sketch(A).merge(sketch(B)) answers like a sketch built over A followed by B
+ *
+ * Algorithm (KLL sketch):
+ * 1. Values enter level 0; an item at level h stands for 2^h original values
+ * 2. Level h may hold about k*(2/3)^(H-1-h) items, where H is the number of levels
+ * 3. When the sketch exceeds its total capacity, the lowest full level is sorted and every
+ *    other item (random even/odd offset) is promoted to the next level, the rest dropped
+ * 4. Merging appends the other sketch level by level and compacts again
+ * 5. Queries sort the retained items by value and walk their cumulative weights
+ *
+ * Implementation Details:
+ * - Levels are primitive double[] buffers, no boxing on update
+ * - Not thread-safe by design: every producer thread owns a sketch and updates it without any
+ *   locking or CAS; sketches are merged once producers are done
+ * - Rank error is roughly 1.65/k with high probability (k=200 → about 1%)
+ *
+ * Time Complexity: O(1) amortized per update (O(log n) compactions of O(k) items each),
+ *                  O(k log k) per query
+ * Space Complexity: O(k + log(n/k)) retained values regardless of n
+ */
+@DisplayName("Kth Largest Element Quantile Sketch Tests")
+public class KthLargestQuantileSketchTest {
+
+    /**
+     * KLL quantile sketch over double values.
+     */
+    static final class QuantileSketch {
+
+        static final int DEFAULT_K = 200;
+
+        private static final double LEVEL_DECAY = 2.0 / 3.0;
+        private static final int MIN_LEVEL_CAPACITY = 2;
+
+        private final int k;
+        private final SplittableRandom random;
+        private double[][] levels = new double[1][];
+        private int[] sizes = new int[1];
+        private int levelCount = 1;
+        private int capacity;
+        private int retained;
+        private long count;
+
+        QuantileSketch() {
+            this(DEFAULT_K, System.nanoTime());
+        }
+
+        QuantileSketch(int k, long seed) {
+            if (k < 8) {
+                throw new IllegalArgumentException("k must be >= 8 but was " + k);
+            }
+            this.k = k;
+            this.random = new SplittableRandom(seed);
+            this.levels[0] = new double[k];
+            this.capacity = computeCapacity();
+        }
+
+        /**
+         * @param epsilon target normalized rank error, e.g. 0.01 for ±1% of n
+         */
+        static QuantileSketch withRankError(double epsilon, long seed) {
+            if (!(epsilon > 0 && epsilon < 1)) {
+                throw new IllegalArgumentException("epsilon must be in (0, 1) but was " + epsilon);
+            }
+            return new QuantileSketch(Math.max(8, (int) Math.ceil(1.65 / epsilon)), seed);
+        }
+
+        void update(double value) {
+            append(0, value);
+            count++;
+            if (retained > capacity) {
+                compress();
+            }
+        }
+
+        QuantileSketch merge(QuantileSketch other) {
+            if (other.k != k) {
+                throw new IllegalArgumentException("Cannot merge sketches with k=" + k + " and k=" + other.k);
+            }
+            for (int h = 0; h < other.levelCount; h++) {
+                for (int i = 0; i < other.sizes[h]; i++) {
+                    append(h, other.levels[h][i]);
+                }
+            }
+            count += other.count;
+            compress();
+            return this;
+        }
+
+        /**
+         * @param q quantile in [0, 1], 0 being the minimum and 1 the maximum
+         */
+        double quantile(double q) {
+            if (!(q >= 0 && q <= 1)) {
+                throw new IllegalArgumentException("q must be in [0, 1] but was " + q);
+            }
+            if (count == 0) {
+                throw new NoSuchElementException("Sketch is empty");
+            }
+            long targetWeight = Math.max(1, (long) Math.ceil(q * count));
+            double[] values = new double[retained];
+            long[] weights = new long[retained];
+            sortedItems(values, weights);
+
+            long cumulative = 0;
+            for (int i = 0; i < values.length; i++) {
+                cumulative += weights[i];
+                if (cumulative >= targetWeight) {
+                    return values[i];
+                }
+            }
+            return values[values.length - 1];
+        }
+
+        /**
+         * Approximate counterpart of getKthLargestElementInTheList: k=0 is the largest value.
+         */
+        double kthLargest(long k) {
+            if (k < 0 || k >= count) {
+                throw new IndexOutOfBoundsException("k=" + k + " out of bounds for count " + count);
+            }
+            return quantile((double) (count - k) / count);
+        }
+
+        /**
+         * @return approximate number of values less than or equal to {@code value}
+         */
+        long rank(double value) {
+            long rank = 0;
+            for (int h = 0; h < levelCount; h++) {
+                for (int i = 0; i < sizes[h]; i++) {
+                    if (Double.compare(levels[h][i], value) <= 0) {
+                        rank += 1L << h;
+                    }
+                }
+            }
+            return rank;
+        }
+
+        long count() {
+            return count;
+        }
+
+        int retained() {
+            return retained;
+        }
+
+        private void append(int level, double value) {
+            while (level >= levelCount) {
+                addLevel();
+            }
+            if (sizes[level] == levels[level].length) {
+                levels[level] = Arrays.copyOf(levels[level], levels[level].length * 2);
+            }
+            levels[level][sizes[level]++] = value;
+            retained++;
+        }
+
+        private void addLevel() {
+            if (levelCount == levels.length) {
+                levels = Arrays.copyOf(levels, levelCount * 2);
+                sizes = Arrays.copyOf(sizes, levelCount * 2);
+            }
+            levels[levelCount] = new double[Math.max(MIN_LEVEL_CAPACITY, k / 2)];
+            levelCount++;
+            capacity = computeCapacity();
+        }
+
+        private int levelCapacity(int level) {
+            int depth = levelCount - 1 - level;
+            return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(LEVEL_DECAY, depth)));
+        }
+
+        private int computeCapacity() {
+            int total = 0;
+            for (int h = 0; h < levelCount; h++) {
+                total += levelCapacity(h);
+            }
+            return total;
+        }
+
+        private void compress() {
+            while (retained > capacity) {
+                for (int h = 0; h < levelCount; h++) {
+                    if (sizes[h] >= levelCapacity(h)) {
+                        compact(h);
+                        break;
+                    }
+                }
+            }
+        }
+
+        private void compact(int level) {
+            if (level + 1 == levelCount) {
+                addLevel();
+            }
+            double[] items = levels[level];
+            int size = sizes[level];
+            Arrays.sort(items, 0, size);
+
+            int pairs = size & ~1;
+            int offset = random.nextBoolean() ? 1 : 0;
+            for (int i = offset; i < pairs; i += 2) {
+                append(level + 1, items[i]);
+            }
+            retained -= pairs;
+            if ((size & 1) == 1) {
+                items[0] = items[size - 1];
+                sizes[level] = 1;
+            } else {
+                sizes[level] = 0;
+            }
+        }
+
+        private void sortedItems(double[] values, long[] weights) {
+            double[][] sortedLevels = new double[levelCount][];
+            for (int h = 0; h < levelCount; h++) {
+                sortedLevels[h] = Arrays.copyOf(levels[h], sizes[h]);
+                Arrays.sort(sortedLevels[h]);
+            }
+            int[] heads = new int[levelCount];
+            for (int out = 0; out < values.length; out++) {
+                int best = -1;
+                for (int h = 0; h < levelCount; h++) {
+                    if (heads[h] < sortedLevels[h].length
+                        && (best < 0 || Double.compare(sortedLevels[h][heads[h]], sortedLevels[best][heads[best]]) < 0)) {
+                        best = h;
+                    }
+                }
+                values[out] = sortedLevels[best][heads[best]++];
+                weights[out] = 1L << best;
+            }
+        }
+    }
+
+    private static final double[] QUANTILES = {0.001, 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 0.999};
+
+    @ParameterizedTest
+    @MethodSource("provideDistributions")
+    @DisplayName("Should stay within the rank error bound against exact selection")
+    void shouldStayWithinRankErrorBound(double[] data, String description) {
+        // Given
+        QuantileSketch sketch = new QuantileSketch(QuantileSketch.DEFAULT_K, 1L);
+        for (double value : data) {
+            sketch.update(value);
+        }
+
+        // When & Then
+        assertRankErrorWithin(sketch, data, 0.02, description);
+        assertThat(sketch.retained())
+            .as("Retained values should stay O(k): %s", description)
+            .isLessThan(4 * QuantileSketch.DEFAULT_K);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideDistributions")
+    @DisplayName("Should stay within the rank error bound after merging per-thread sketches")
+    void shouldStayWithinRankErrorBoundAfterMerging(double[] data, String description) throws Exception {
+        // Given
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<QuantileSketch>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                int from = data.length * t / threads;
+                int to = data.length * (t + 1) / threads;
+                long seed = t;
+                futures.add(executor.submit(() -> {
+                    QuantileSketch local = new QuantileSketch(QuantileSketch.DEFAULT_K, seed);
+                    for (int i = from; i < to; i++) {
+                        local.update(data[i]);
+                    }
+                    return local;
+                }));
+            }
+
+            // When
+            QuantileSketch merged = new QuantileSketch(QuantileSketch.DEFAULT_K, 99L);
+            for (Future<QuantileSketch> future : futures) {
+                merged.merge(future.get());
+            }
+
+            // Then
+            assertThat(merged.count()).isEqualTo(data.length);
+            assertRankErrorWithin(merged, data, 0.03, description);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should agree with exact kth largest on small inputs")
+    void shouldAgreeWithExactKthLargestOnSmallInputs() {
+        // Given
+        int[] values = {3, 1, 4, 1, 5, 9, 2, 6};
+        QuantileSketch sketch = new QuantileSketch(QuantileSketch.DEFAULT_K, 1L);
+        for (int value : values) {
+            sketch.update(value);
+        }
+
+        // When & Then (nothing is compacted below capacity, so answers are exact)
+        for (int k = 0; k < values.length; k++) {
+            assertThat(sketch.kthLargest(k))
+                .as("k=%d", k)
+                .isEqualTo(KthLargestIntroselectTest.Introselect.kthLargest(values, k));
+        }
+        assertThat(sketch.rank(4)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should derive k from the requested rank error")
+    void shouldDeriveKFromRequestedRankError() {
+        // Given
+        double[] data = new Random(8).doubles(500_000).toArray();
+        QuantileSketch coarse = QuantileSketch.withRankError(0.05, 1L);
+        QuantileSketch fine = QuantileSketch.withRankError(0.005, 1L);
+
+        // When
+        for (double value : data) {
+            coarse.update(value);
+            fine.update(value);
+        }
+
+        // Then
+        assertThat(coarse.retained()).isLessThan(fine.retained());
+        assertRankErrorWithin(coarse, data, 0.05, "coarse sketch");
+        assertRankErrorWithin(fine, data, 0.005, "fine sketch");
+    }
+
+    @Test
+    @DisplayName("Should reject invalid usage")
+    void shouldRejectInvalidUsage() {
+        // Given
+        QuantileSketch sketch = new QuantileSketch();
+
+        // When & Then
+        assertThatThrownBy(() -> sketch.quantile(0.5)).isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> sketch.kthLargest(0)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> sketch.quantile(1.5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sketch.merge(new QuantileSketch(100, 1L))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuantileSketch.withRankError(0, 1L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertRankErrorWithin(QuantileSketch sketch, double[] data, double epsilon, String description) {
+        double[] sorted = data.clone();
+        Arrays.sort(sorted);
+        int n = sorted.length;
+        for (double q : QUANTILES) {
+            double estimate = sketch.quantile(q);
+            // The estimate occupies ranks [lower, upper) in the exact data; measure distance to the target rank
+            int lower = lowerBound(sorted, estimate);
+            int upper = upperBound(sorted, estimate);
+            double target = q * n;
+            double error = target < lower ? lower - target : target > upper ? target - upper : 0;
+            assertThat(error / n)
+                .as("Rank error for q=%s (%s)", q, description)
+                .isLessThanOrEqualTo(epsilon);
+        }
+    }
+
+    private static int lowerBound(double[] sorted, double value) {
+        int index = Arrays.binarySearch(sorted, value);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index > 0 && Double.compare(sorted[index - 1], value) == 0) {
+            index--;
+        }
+        return index;
+    }
+
+    private static int upperBound(double[] sorted, double value) {
+        int index = Arrays.binarySearch(sorted, value);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index < sorted.length && Double.compare(sorted[index], value) == 0) {
+            index++;
+        }
+        return index;
+    }
+
+    // Test data providers
+    static Stream<Arguments> provideDistributions() {
+        int n = 1_000_000;
+        Random random = new Random(2024);
+        return Stream.of(
+            Arguments.of(random.doubles(n).toArray(), "Uniform"),
+            Arguments.of(IntStream.range(0, n).mapToDouble(i -> Math.exp(random.nextGaussian() * 2)).toArray(), "Log-normal (skewed)"),
+            Arguments.of(IntStream.range(0, n).mapToDouble(i -> -Math.log(1 - random.nextDouble()) * 10).toArray(), "Exponential latency-like"),
+            Arguments.of(IntStream.range(0, n).mapToDouble(i -> Math.floor(1 / (1 - random.nextDouble()))).toArray(), "Heavy-tailed with many duplicates"),
+            Arguments.of(IntStream.range(0, n).mapToDouble(i -> i).toArray(), "Ascending"),
+            Arguments.of(IntStream.range(0, n).mapToDouble(i -> n - i).toArray(), "Descending")
+        );
+    }
+}
@@ -0,0 +1,279 @@
+package com.zaroum.javacodingproblems;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Kth Largest Element - Radix Select Tests
+ *
+ * Problem Description:
+ * Find the kth largest element (k=0 is the largest) of an int[] or long[] without comparisons,
+ * using the bytes of the keys, and without modifying the caller's array.
+ *
+ * Examples:
+ * - [3,1,4,1,5] with k=0 → 5
+ * - [-2,0,3,-1,5] with k=4 → -2 (negative numbers order correctly)
+ *
+ * Algorithm (MSD radix select):
+ * 1. Flip the sign bit of every key so that unsigned byte order equals signed value order
+ * 2. Build a 256-entry histogram of the most significant byte
+ * 3. Walk the histogram to find the byte value whose bucket holds the target rank and subtract
+ *    the counts below it from the rank
+ * 4. Compact that bucket into a scratch array (in place after the first round) and repeat on
+ *    the next byte
+ * 5. When the least significant byte is fixed, every remaining key is equal and is the answer;
+ *    tiny buckets are finished with introselect (see {@link KthLargestIntroselectTest})
+ *
+ * Implementation Details:
+ * - At most 4 rounds for int[] and 8 for long[]; a round whose bucket contains everything
+ *   (shared high bytes) skips the compaction
+ * - Only the first bucket is copied out of the caller's array, later rounds reuse it
+ * - No comparisons in the counting loops, so performance does not depend on the value order
+ *
+ * Time Complexity: O(n) with at most w/8 passes over shrinking inputs (w = key width in bits)
+ * Space Complexity: O(n / 256) expected for the first bucket, O(256) for the histogram
+ */
+@DisplayName("Kth Largest Element Radix Select Tests")
+public class KthLargestRadixSelectTest {
+
+    /**
+     * Byte-wise MSD radix select over int[] and long[].
+     */
+    static final class RadixSelect {
+
+        private static final int RADIX = 256;
+        private static final int SMALL_BUCKET = 32;
+
+        private RadixSelect() {
+        }
+
+        static int kthLargest(int[] values, int k) {
+            int rank = values.length - 1 - Objects.checkIndex(k, values.length);
+            int[] histogram = new int[RADIX];
+            int[] current = values;
+            int length = values.length;
+            int prefix = 0;
+
+            for (int shift = Integer.SIZE - 8; shift >= 0; shift -= 8) {
+                if (length <= SMALL_BUCKET) {
+                    int[] scratch = current == values ? Arrays.copyOf(values, length) : current;
+                    KthLargestIntroselectTest.Introselect.select(scratch, 0, length, rank);
+                    return scratch[rank];
+                }
+
+                Arrays.fill(histogram, 0);
+                for (int i = 0; i < length; i++) {
+                    histogram[((current[i] ^ Integer.MIN_VALUE) >>> shift) & 0xFF]++;
+                }
+                int digit = 0;
+                while (rank >= histogram[digit]) {
+                    rank -= histogram[digit];
+                    digit++;
+                }
+                prefix = prefix << 8 | digit;
+
+                int bucketSize = histogram[digit];
+                if (bucketSize != length && shift > 0) {
+                    int[] next = current == values ? new int[bucketSize] : current;
+                    int out = 0;
+                    for (int i = 0; i < length; i++) {
+                        int v = current[i];
+                        if ((((v ^ Integer.MIN_VALUE) >>> shift) & 0xFF) == digit) {
+                            next[out++] = v;
+                        }
+                    }
+                    current = next;
+                }
+                length = bucketSize;
+            }
+            return prefix ^ Integer.MIN_VALUE;
+        }
+
+        static long kthLargest(long[] values, int k) {
+            int rank = values.length - 1 - Objects.checkIndex(k, values.length);
+            int[] histogram = new int[RADIX];
+            long[] current = values;
+            int length = values.length;
+            long prefix = 0;
+
+            for (int shift = Long.SIZE - 8; shift >= 0; shift -= 8) {
+                if (length <= SMALL_BUCKET) {
+                    long[] scratch = current == values ? Arrays.copyOf(values, length) : current;
+                    KthLargestIntroselectTest.Introselect.select(scratch, 0, length, rank);
+                    return scratch[rank];
+                }
+
+                Arrays.fill(histogram, 0);
+                for (int i = 0; i < length; i++) {
+                    histogram[(int) ((current[i] ^ Long.MIN_VALUE) >>> shift) & 0xFF]++;
+                }
+                int digit = 0;
+                while (rank >= histogram[digit]) {
+                    rank -= histogram[digit];
+                    digit++;
+                }
+                prefix = prefix << 8 | digit;
+
+                int bucketSize = histogram[digit];
+                if (bucketSize != length && shift > 0) {
+                    long[] next = current == values ? new long[bucketSize] : current;
+                    int out = 0;
+                    for (int i = 0; i < length; i++) {
+                        long v = current[i];
+                        if (((int) ((v ^ Long.MIN_VALUE) >>> shift) & 0xFF) == digit) {
+                            next[out++] = v;
+                        }
+                    }
+                    current = next;
+                }
+                length = bucketSize;
+            }
+            return prefix ^ Long.MIN_VALUE;
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideIntArrays")
+    @DisplayName("Should match sorting for int arrays")
+    void shouldMatchSortingForIntArrays(int[] values, String description) {
+        // Given
+        int[] original = values.clone();
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int n = values.length;
+
+        for (int k : new int[]{0, 1, n / 7, n / 2, n - 2, n - 1}) {
+            // When
+            int result = RadixSelect.kthLargest(values, k);
+
+            // Then
+            assertThat(result)
+                .as("Testing int radix select: %s, k=%d", description, k)
+                .isEqualTo(sorted[n - 1 - k]);
+        }
+        assertThat(values).as("Input must not be mutated: %s", description).isEqualTo(original);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideLongArrays")
+    @DisplayName("Should match sorting for long arrays")
+    void shouldMatchSortingForLongArrays(long[] values, String description) {
+        // Given
+        long[] original = values.clone();
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int n = values.length;
+
+        for (int k : new int[]{0, 1, n / 7, n / 2, n - 2, n - 1}) {
+            // When
+            long result = RadixSelect.kthLargest(values, k);
+
+            // Then
+            assertThat(result)
+                .as("Testing long radix select: %s, k=%d", description, k)
+                .isEqualTo(sorted[n - 1 - k]);
+        }
+        assertThat(values).as("Input must not be mutated: %s", description).isEqualTo(original);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 5, 31, 32, 33})
+    @DisplayName("Should handle every rank of tiny arrays")
+    void shouldHandleEveryRankOfTinyArrays(int n) {
+        // Given
+        int[] values = new Random(n).ints(n, -3, 3).toArray();
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        // When & Then
+        for (int k = 0; k < n; k++) {
+            assertThat(RadixSelect.kthLargest(values, k)).as("n=%d, k=%d", n, k).isEqualTo(sorted[n - 1 - k]);
+        }
+        assertThatThrownBy(() -> RadixSelect.kthLargest(values, n)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> RadixSelect.kthLargest(values, -1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    /**
+     * Benchmark against introselect and the boxed list sort. The list sort is skipped above 1M
+     * elements because boxing 10M+ Integers does not fit the default test heap; 100M elements are
+     * out of reach of the test JVM for the same reason, so 10M is the largest size measured here.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 1_000_000, 10_000_000})
+    @DisplayName("Should compete with introselect and beat the list sort")
+    void shouldCompeteWithIntroselectAndBeatListSort(int n) {
+        // Given
+        int[] values = new Random(n).ints(n).toArray();
+        int k = n / 100;
+        RadixSelect.kthLargest(values, k); // warm-up
+        KthLargestIntroselectTest.Introselect.kthLargest(values, k);
+
+        // When
+        long radixStart = System.nanoTime();
+        int radix = RadixSelect.kthLargest(values, k);
+        long radixTime = System.nanoTime() - radixStart;
+
+        long introStart = System.nanoTime();
+        int intro = KthLargestIntroselectTest.Introselect.kthLargest(values, k);
+        long introTime = System.nanoTime() - introStart;
+
+        // Then
+        assertThat(radix).isEqualTo(intro);
+        if (n <= 1_000_000) {
+            List<Integer> list = Arrays.stream(values).boxed().collect(Collectors.toList());
+            long sortStart = System.nanoTime();
+            list.sort((o1, o2) -> Integer.compare(o2, o1));
+            int sorted = list.get(k);
+            long sortTime = System.nanoTime() - sortStart;
+
+            assertThat(radix).isEqualTo(sorted);
+            if (n >= 1_000_000) {
+                assertThat(radixTime)
+                    .as("Radix select (%d us) vs introselect (%d us) vs list sort (%d us) at n=%d",
+                        radixTime / 1_000, introTime / 1_000, sortTime / 1_000, n)
+                    .isLessThan(sortTime);
+            }
+        }
+    }
+
+    // Test data providers
+    static Stream<Arguments> provideIntArrays() {
+        int n = 300_000;
+        Random random = new Random(8);
+        return Stream.of(
+            Arguments.of(random.ints(n).toArray(), "Random full int range"),
+            Arguments.of(random.ints(n, -100, 100).toArray(), "Small range around zero"),
+            Arguments.of(random.ints(n, 0, 4).toArray(), "Four distinct values"),
+            Arguments.of(new int[n], "All zeros"),
+            Arguments.of(IntStream.range(0, n).map(i -> i % 2 == 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE).toArray(), "Extremes only"),
+            Arguments.of(IntStream.range(0, n).map(i -> 0x7F00_0000 | random.nextInt(1 << 12)).toArray(), "Shared high bytes"),
+            Arguments.of(IntStream.range(0, n).map(i -> -i).toArray(), "Descending negatives")
+        );
+    }
+
+    static Stream<Arguments> provideLongArrays() {
+        int n = 300_000;
+        Random random = new Random(9);
+        return Stream.of(
+            Arguments.of(random.longs(n).toArray(), "Random full long range"),
+            Arguments.of(random.longs(n, -100, 100).toArray(), "Small range around zero"),
+            Arguments.of(new long[n], "All zeros"),
+            Arguments.of(LongStream.range(0, n).map(i -> i % 3 == 0 ? Long.MIN_VALUE : i).toArray(), "Many minimum values"),
+            Arguments.of(LongStream.range(0, n).map(i -> random.nextLong() >>> 40 | 0x7FFF_FF00_0000_0000L).toArray(), "Shared high bytes")
+        );
+    }
+}
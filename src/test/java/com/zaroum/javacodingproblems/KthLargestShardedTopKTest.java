@@ -0,0 +1,354 @@
+package com.zaroum.javacodingproblems;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Kth Largest Element - Sharded Top-K Merge Tests
+ *
+ * Problem Description:
+ * The values are partitioned across several shards (nodes). Find the kth largest element
+ * (k=0 is the largest) of the union without shipping every value to one place.
+ *
+ * Examples:
+ * - shards [9,1], [7,3], [8] with k=1 → 8 (each shard ships at most 2 values)
+ * - shards [5], [], [5,5] with k=2 → 5 (empty shards ship nothing)
+ *
+ * Algorithm:
+ * 1. The coordinator asks every shard for its size once and rejects k outside the total before
+ *    any summary is requested
+ * 2. Every shard computes a local summary: its min(k+1, shard size) largest values in descending
+ *    order (with a bounded min-heap, see {@link KthLargestStreamingTopKTest}) plus its size; the
+ *    coordinator requests all summaries in parallel
+ * 3. It k-way merges the descending summaries with a max-heap keyed by each summary's current
+ *    head and stops after k+1 values; the last one is the answer
+ *
+ * Implementation Details:
+ * - The global top k+1 can only contain values from the shards' local top k+1, so at most
+ *   (k+1) * shards values travel to the coordinator instead of n
+ * - In this in-process simulation every shard is owned by a worker with its own thread; the
+ *   coordinator only talks to workers through futures, like it would through RPCs
+ * - The number of values shipped to the coordinator is tracked for verification
+ *
+ * Time Complexity: O(n_i log k) on shard i (in parallel), O(k log s) on the coordinator for s shards
+ * Space Complexity: O(k * s) on the coordinator, O(min(k, n_i)) on shard i
+ */
+@DisplayName("Kth Largest Element Sharded Top-K Merge Tests")
+public class KthLargestShardedTopKTest {
+
+    record ShardSummary(int shardId, long shardSize, int[] topDescending) {}
+
+    /**
+     * Stand-in for a remote node: owns one shard and answers summary requests on its own thread.
+     */
+    static final class ShardWorker implements AutoCloseable {
+
+        private final int shardId;
+        private final int[] values;
+        private final ExecutorService executor;
+
+        ShardWorker(int shardId, int[] values) {
+            this.shardId = shardId;
+            this.values = values.clone();
+            this.executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "shard-worker-" + shardId);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        CompletableFuture<Long> size() {
+            return submit(() -> (long) values.length);
+        }
+
+        CompletableFuture<ShardSummary> topK(int k) {
+            return submit(() -> {
+                // A shard never ships more than it holds, so a large k does not size the heap
+                int retained = (int) Math.min(k + 1L, values.length);
+                if (retained == 0) {
+                    return new ShardSummary(shardId, 0, new int[0]);
+                }
+                KthLargestStreamingTopKTest.StreamingTopK selector = new KthLargestStreamingTopKTest.StreamingTopK(retained - 1);
+                selector.addAll(IntStream.of(values));
+                return new ShardSummary(shardId, values.length, selector.topK());
+            });
+        }
+
+        <T> CompletableFuture<T> submit(Supplier<T> request) {
+            return CompletableFuture.supplyAsync(request, executor);
+        }
+
+        @Override
+        public void close() {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Merges shard summaries into the global answer.
+     */
+    static final class TopKCoordinator {
+
+        private final List<ShardWorker> workers;
+        private final AtomicLong valuesTransferred = new AtomicLong();
+        private volatile long totalSize = -1; // unknown until the first query
+
+        TopKCoordinator(List<ShardWorker> workers) {
+            this.workers = List.copyOf(workers);
+        }
+
+        int kthLargest(int k) {
+            int[] top = topK(k);
+            return top[k];
+        }
+
+        /**
+         * @return the k+1 largest values of all shards, in descending order
+         */
+        int[] topK(int k) {
+            if (k < 0) {
+                throw new IndexOutOfBoundsException("k must be >= 0 but was " + k);
+            }
+            long total = totalSize();
+            if (k >= total) {
+                throw new IndexOutOfBoundsException("k=" + k + " out of bounds for " + total + " values");
+            }
+            List<CompletableFuture<ShardSummary>> requests = new ArrayList<>();
+            for (ShardWorker worker : workers) {
+                requests.add(worker.topK(k));
+            }
+            List<ShardSummary> summaries = new ArrayList<>();
+            for (CompletableFuture<ShardSummary> request : requests) {
+                ShardSummary summary = request.join();
+                summaries.add(summary);
+                valuesTransferred.addAndGet(summary.topDescending().length);
+            }
+            return mergeDescending(summaries, k + 1);
+        }
+
+        /**
+         * @return the number of values on all shards, asked once since shards do not change
+         */
+        long totalSize() {
+            long total = totalSize;
+            if (total < 0) {
+                List<CompletableFuture<Long>> requests = new ArrayList<>();
+                for (ShardWorker worker : workers) {
+                    requests.add(worker.size());
+                }
+                total = 0;
+                for (CompletableFuture<Long> request : requests) {
+                    total += request.join();
+                }
+                totalSize = total;
+            }
+            return total;
+        }
+
+        long valuesTransferred() {
+            return valuesTransferred.get();
+        }
+
+        static int[] mergeDescending(List<ShardSummary> summaries, int limit) {
+            int[][] runs = new int[summaries.size()][];
+            for (int i = 0; i < runs.length; i++) {
+                runs[i] = summaries.get(i).topDescending();
+            }
+            int[] positions = new int[runs.length];
+
+            // Max-heap of run indices, keyed by the run's current head
+            int[] heap = new int[runs.length];
+            int size = 0;
+            for (int run = 0; run < runs.length; run++) {
+                if (runs[run].length > 0) {
+                    heap[size++] = run;
+                    siftUp(heap, size - 1, runs, positions);
+                }
+            }
+
+            int[] merged = new int[limit];
+            int count = 0;
+            while (count < limit && size > 0) {
+                int run = heap[0];
+                merged[count++] = runs[run][positions[run]++];
+                if (positions[run] == runs[run].length) {
+                    heap[0] = heap[--size];
+                }
+                siftDown(heap, size, runs, positions);
+            }
+            return Arrays.copyOf(merged, count);
+        }
+
+        private static int head(int run, int[][] runs, int[] positions) {
+            return runs[run][positions[run]];
+        }
+
+        private static void siftUp(int[] heap, int index, int[][] runs, int[] positions) {
+            int run = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (head(heap[parent], runs, positions) >= head(run, runs, positions)) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = run;
+        }
+
+        private static void siftDown(int[] heap, int size, int[][] runs, int[] positions) {
+            if (size == 0) {
+                return;
+            }
+            int run = heap[0];
+            int index = 0;
+            while (2 * index + 1 < size) {
+                int child = 2 * index + 1;
+                if (child + 1 < size && head(heap[child + 1], runs, positions) > head(heap[child], runs, positions)) {
+                    child++;
+                }
+                if (head(run, runs, positions) >= head(heap[child], runs, positions)) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = run;
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideShardedData")
+    @DisplayName("Should match selection over the union of all shards")
+    void shouldMatchSelectionOverUnionOfAllShards(int[][] shards, String description) {
+        // Given
+        int[] all = Arrays.stream(shards).flatMapToInt(Arrays::stream).toArray();
+        List<ShardWorker> workers = startWorkers(shards);
+        try {
+            for (int k : new int[]{0, 1, 7, all.length / 10, all.length - 1}) {
+                if (k >= all.length) {
+                    continue;
+                }
+                TopKCoordinator coordinator = new TopKCoordinator(workers);
+
+                // When
+                int result = coordinator.kthLargest(k);
+
+                // Then
+                assertThat(result)
+                    .as("Testing sharded select: %s, k=%d", description, k)
+                    .isEqualTo(KthLargestIntroselectTest.Introselect.kthLargest(all, k));
+                assertThat(coordinator.valuesTransferred())
+                    .as("Values shipped should be O(k * shards): %s, k=%d", description, k)
+                    .isLessThanOrEqualTo((long) (k + 1) * shards.length);
+            }
+        } finally {
+            workers.forEach(ShardWorker::close);
+        }
+    }
+
+    @Test
+    @DisplayName("Should return the global top k in descending order")
+    void shouldReturnGlobalTopKInDescendingOrder() {
+        // Given
+        List<ShardWorker> workers = startWorkers(new int[][]{{9, 1}, {7, 3}, {8}, {}});
+        try {
+            TopKCoordinator coordinator = new TopKCoordinator(workers);
+
+            // When & Then
+            assertThat(coordinator.topK(3)).containsExactly(9, 8, 7, 3);
+            assertThat(coordinator.kthLargest(1)).isEqualTo(8);
+            assertThatThrownBy(() -> coordinator.kthLargest(5)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> coordinator.kthLargest(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+        } finally {
+            workers.forEach(ShardWorker::close);
+        }
+    }
+
+    @Test
+    @DisplayName("Should size shard summaries by the shard and reject k before asking for them")
+    void shouldBoundSummariesByShardSize() {
+        // Given
+        List<ShardWorker> workers = startWorkers(new int[][]{{9, 1}, {7, 3}, {8}, {}});
+        try {
+            TopKCoordinator coordinator = new TopKCoordinator(workers);
+
+            // When & Then
+            assertThat(coordinator.kthLargest(4)).isEqualTo(1);
+            assertThat(coordinator.valuesTransferred()).isEqualTo(5);
+            assertThat(workers.get(0).topK(50_000_000).join().topDescending()).containsExactly(9, 1);
+            assertThatThrownBy(() -> coordinator.kthLargest(Integer.MAX_VALUE)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertThat(coordinator.valuesTransferred()).as("No summary requested for a rejected k").isEqualTo(5);
+        } finally {
+            workers.forEach(ShardWorker::close);
+        }
+    }
+
+    @Test
+    @DisplayName("Should compute shard summaries on the workers' own threads")
+    void shouldComputeShardSummariesOnWorkersOwnThreads() {
+        // Given
+        Set<String> threads = new HashSet<>();
+        List<ShardWorker> workers = startWorkers(new int[][]{{1}, {2}, {3}});
+        try {
+            // When
+            for (ShardWorker worker : workers) {
+                threads.add(worker.submit(() -> Thread.currentThread().getName()).join());
+            }
+
+            // Then
+            assertThat(threads).containsExactlyInAnyOrder("shard-worker-0", "shard-worker-1", "shard-worker-2");
+        } finally {
+            workers.forEach(ShardWorker::close);
+        }
+    }
+
+    private static List<ShardWorker> startWorkers(int[][] shards) {
+        List<ShardWorker> workers = new ArrayList<>();
+        for (int i = 0; i < shards.length; i++) {
+            workers.add(new ShardWorker(i, shards[i]));
+        }
+        return workers;
+    }
+
+    // Test data providers
+    static Stream<Arguments> provideShardedData() {
+        Random random = new Random(13);
+        int[][] uneven = new int[8][];
+        for (int i = 0; i < uneven.length; i++) {
+            uneven[i] = random.ints(random.nextInt(20_000), -1_000_000, 1_000_000).toArray();
+        }
+        uneven[3] = new int[0];
+        int[][] skewed = new int[4][];
+        skewed[0] = random.ints(50_000, 1_000, 2_000).toArray();
+        for (int i = 1; i < skewed.length; i++) {
+            skewed[i] = random.ints(50_000, 0, 1_000).toArray();
+        }
+        return Stream.of(
+            Arguments.of(new int[][]{{9, 1}, {7, 3}, {8}}, "Small shards"),
+            Arguments.of(new int[][]{{5}, {}, {5, 5}}, "Duplicates and an empty shard"),
+            Arguments.of(uneven, "Eight uneven random shards"),
+            Arguments.of(skewed, "All large values on one shard"),
+            Arguments.of(new int[][]{random.ints(30_000).toArray()}, "Single shard")
+        );
+    }
+}
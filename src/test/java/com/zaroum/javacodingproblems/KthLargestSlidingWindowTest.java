@@ -0,0 +1,396 @@
+package com.zaroum.javacodingproblems;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Kth Largest Element - Concurrent Sliding Window Tests
+ *
+ * Problem Description:
+ * Many threads produce integer events. At any time, report the kth largest value (k=0 is the
+ * largest) among the last N events, without copying and sorting the window on every query.
+ *
+ * Examples:
+ * - window N=3, events 5,1,4 → k=0 gives 5
+ * - then event 2 arrives, 5 expires → window 1,4,2 and k=0 gives 4
+ *
+ * Algorithm (ring buffer + striped Fenwick tree over a bucketed value domain):
+ * 1. Every event takes a global sequence number s from an atomic counter
+ * 2. It is written into ring slot s % N together with its generation s / N; a CAS loop only
+ *    replaces an older generation, so the ring always holds the newest event of every slot
+ * 3. The replaced (expired) value is decremented and the new value incremented in a Fenwick
+ *    tree indexed by value bucket
+ * 4. A query descends the Fenwick tree (binary lifting) to find the bucket that holds ascending
+ *    rank size-k
+ *
+ * Implementation Details:
+ * - The Fenwick tree is striped: every thread updates the stripe picked by its thread id, and
+ *   queries sum the stripes, so producers do not all contend on the same root counters
+ * - Bucket width 1 gives exact answers; wider buckets trade precision (answers are the bucket's
+ *   lower bound) for memory
+ * - Values outside [minValue, maxValue] are rejected with IllegalArgumentException
+ * - Queries are weakly consistent while producers run and exact once they are quiescent
+ *
+ * Time Complexity: O(log D) per insert and O(S log D) per query, for D buckets and S stripes
+ * Space Complexity: O(N + S * D)
+ */
+@DisplayName("Kth Largest Element Concurrent Sliding Window Tests")
+public class KthLargestSlidingWindowTest {
+
+    /**
+     * Thread-safe "kth largest of the last N events" tracker.
+     */
+    static final class SlidingWindowKthLargest {
+
+        private static final long EMPTY = 0L;
+
+        private final int windowSize;
+        private final int minValue;
+        private final int maxValue;
+        private final int bucketWidth;
+        private final int buckets;
+        private final AtomicLongArray ring;
+        private final AtomicLong sequence = new AtomicLong();
+        private final AtomicIntegerArray[] stripes;
+
+        SlidingWindowKthLargest(int windowSize, int minValue, int maxValue) {
+            this(windowSize, minValue, maxValue, 1);
+        }
+
+        SlidingWindowKthLargest(int windowSize, int minValue, int maxValue, int bucketWidth) {
+            if (windowSize < 1) {
+                throw new IllegalArgumentException("windowSize must be >= 1 but was " + windowSize);
+            }
+            if (maxValue < minValue || bucketWidth < 1) {
+                throw new IllegalArgumentException("Invalid domain [" + minValue + ", " + maxValue + "] / " + bucketWidth);
+            }
+            long domainBuckets = ((long) maxValue - minValue) / bucketWidth + 1;
+            if (domainBuckets >= Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Too many buckets: " + domainBuckets);
+            }
+            this.windowSize = windowSize;
+            this.minValue = minValue;
+            this.maxValue = maxValue;
+            this.bucketWidth = bucketWidth;
+            this.buckets = (int) domainBuckets;
+            this.ring = new AtomicLongArray(windowSize);
+            this.stripes = new AtomicIntegerArray[Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1)];
+            for (int i = 0; i < stripes.length; i++) {
+                stripes[i] = new AtomicIntegerArray(buckets + 1);
+            }
+        }
+
+        void add(int value) {
+            if (value < minValue || value > maxValue) {
+                throw new IllegalArgumentException("Value " + value + " outside [" + minValue + ", " + maxValue + "]");
+            }
+            long seq = sequence.getAndIncrement();
+            int slot = (int) (seq % windowSize);
+            long generation = seq / windowSize + 1;
+            long packed = generation << 32 | (value & 0xFFFF_FFFFL);
+
+            AtomicIntegerArray stripe = stripes[(int) Thread.currentThread().threadId() & (stripes.length - 1)];
+            while (true) {
+                long current = ring.get(slot);
+                if ((current >>> 32) >= generation) {
+                    // A newer event already took this slot, so ours is expired on arrival
+                    return;
+                }
+                if (ring.compareAndSet(slot, current, packed)) {
+                    if (current != EMPTY) {
+                        update(stripe, bucketOf((int) current), -1);
+                    }
+                    update(stripe, bucketOf(value), 1);
+                    return;
+                }
+            }
+        }
+
+        int kthLargest(int k) {
+            int size = size();
+            if (k < 0 || k >= size) {
+                throw new IndexOutOfBoundsException("k=" + k + " out of bounds for window size " + size);
+            }
+            long remaining = size - k;
+            int position = 0;
+            for (int step = Integer.highestOneBit(buckets); step > 0; step >>>= 1) {
+                int next = position + step;
+                if (next <= buckets) {
+                    long count = sum(next);
+                    if (count < remaining) {
+                        position = next;
+                        remaining -= count;
+                    }
+                }
+            }
+            return minValue + Math.min(position, buckets - 1) * bucketWidth;
+        }
+
+        int size() {
+            return (int) Math.min(sequence.get(), windowSize);
+        }
+
+        /**
+         * @return the values currently in the window, in no particular order
+         */
+        int[] windowSnapshot() {
+            int[] values = new int[windowSize];
+            int count = 0;
+            for (int i = 0; i < windowSize; i++) {
+                long current = ring.get(i);
+                if (current != EMPTY) {
+                    values[count++] = (int) current;
+                }
+            }
+            return Arrays.copyOf(values, count);
+        }
+
+        private int bucketOf(int value) {
+            return (int) (((long) value - minValue) / bucketWidth);
+        }
+
+        private static void update(AtomicIntegerArray tree, int bucket, int delta) {
+            for (int i = bucket + 1; i < tree.length(); i += i & -i) {
+                tree.getAndAdd(i, delta);
+            }
+        }
+
+        private long sum(int node) {
+            long total = 0;
+            for (AtomicIntegerArray stripe : stripes) {
+                total += stripe.get(node);
+            }
+            return total;
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideSequentialScenarios")
+    @DisplayName("Should match a brute-force window for every rank")
+    void shouldMatchBruteForceWindowForEveryRank(int windowSize, int[] events, String description) {
+        // Given
+        SlidingWindowKthLargest tracker = new SlidingWindowKthLargest(windowSize, -1_000, 1_000);
+        Deque<Integer> window = new ArrayDeque<>();
+
+        for (int event : events) {
+            // When
+            tracker.add(event);
+            window.addLast(event);
+            if (window.size() > windowSize) {
+                window.removeFirst();
+            }
+
+            // Then
+            int[] sorted = window.stream().mapToInt(Integer::intValue).sorted().toArray();
+            assertThat(tracker.size()).isEqualTo(sorted.length);
+            for (int k = 0; k < sorted.length; k++) {
+                assertThat(tracker.kthLargest(k))
+                    .as("Testing %s, k=%d, window=%s", description, k, window)
+                    .isEqualTo(sorted[sorted.length - 1 - k]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should report bucket lower bounds with a wider bucket width")
+    void shouldReportBucketLowerBoundsWithWiderBuckets() {
+        // Given
+        SlidingWindowKthLargest tracker = new SlidingWindowKthLargest(4, 0, 999, 10);
+
+        // When
+        for (int value : new int[]{5, 17, 42, 999, 3}) {
+            tracker.add(value);
+        }
+
+        // Then (window is 17, 42, 999, 3)
+        assertThat(tracker.kthLargest(0)).isEqualTo(990);
+        assertThat(tracker.kthLargest(1)).isEqualTo(40);
+        assertThat(tracker.kthLargest(2)).isEqualTo(10);
+        assertThat(tracker.kthLargest(3)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid values, ranks and configurations")
+    void shouldRejectInvalidUsage() {
+        // Given
+        SlidingWindowKthLargest tracker = new SlidingWindowKthLargest(3, 0, 100);
+        tracker.add(1);
+
+        // When & Then
+        assertThatThrownBy(() -> tracker.add(101)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tracker.kthLargest(1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> new SlidingWindowKthLargest(0, 0, 100)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SlidingWindowKthLargest(3, 100, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Stress test: producers race on the ring and the Fenwick stripes while a reader keeps
+     * querying. Once producers are done, the tree must agree exactly with the ring contents, and
+     * the events of every producer still in the window must be its newest ones.
+     */
+    @Test
+    @DisplayName("Should stay consistent under concurrent producers and readers")
+    void shouldStayConsistentUnderConcurrentProducersAndReaders() throws Exception {
+        // Given
+        int producers = 8;
+        int eventsPerProducer = 50_000;
+        int windowSize = 1_000;
+        SlidingWindowKthLargest tracker = new SlidingWindowKthLargest(windowSize, 0, producers * eventsPerProducer);
+        ExecutorService executor = Executors.newFixedThreadPool(producers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            // When
+            for (int p = 0; p < producers; p++) {
+                int base = p * eventsPerProducer;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < eventsPerProducer; i++) {
+                        tracker.add(base + i);
+                    }
+                    return null;
+                }));
+            }
+            Future<Long> reader = executor.submit(() -> {
+                start.await();
+                long queries = 0;
+                while (futures.stream().anyMatch(f -> !f.isDone())) {
+                    int size = tracker.size();
+                    if (size > 0) {
+                        int value = tracker.kthLargest(size / 2);
+                        assertThat(value).isBetween(0, producers * eventsPerProducer);
+                        queries++;
+                    }
+                }
+                return queries;
+            });
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            reader.get();
+
+            // Then
+            int[] window = tracker.windowSnapshot();
+            Arrays.sort(window);
+            assertThat(window).hasSize(windowSize);
+            for (int k = 0; k < windowSize; k++) {
+                assertThat(tracker.kthLargest(k))
+                    .as("Quiescent tracker must match ring contents, k=%d", k)
+                    .isEqualTo(window[windowSize - 1 - k]);
+            }
+            // A producer's events take increasing sequence numbers, so those left in the window are
+            // a run of consecutive values ending with its last event
+            for (int p = 0; p < producers; p++) {
+                int first = p * eventsPerProducer;
+                int last = first + eventsPerProducer - 1;
+                int[] own = Arrays.stream(window).filter(v -> v >= first && v <= last).toArray();
+                assertThat(own)
+                    .as("Events of producer %d in the window", p)
+                    .containsExactly(IntStream.rangeClosed(last - own.length + 1, last).toArray());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Throughput benchmark: concurrent inserts plus periodic queries, compared with answering the
+     * same queries by copying the window and running getKthLargestElementInTheList's former
+     * approach (boxed list sort).
+     */
+    @Test
+    @DisplayName("Should answer queries faster than sorting a copied window")
+    void shouldAnswerQueriesFasterThanSortingCopiedWindow() throws Exception {
+        // Given
+        int threads = 4;
+        int eventsPerThread = 250_000;
+        int windowSize = 100_000;
+        SlidingWindowKthLargest tracker = new SlidingWindowKthLargest(windowSize, 0, 1 << 20);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        long insertStart = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long seed = t;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < eventsPerThread; i++) {
+                        tracker.add(random.nextInt(1 << 20));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        long insertTime = System.nanoTime() - insertStart;
+
+        int queries = 20;
+        long trackerStart = System.nanoTime();
+        int[] trackerAnswers = new int[queries];
+        for (int q = 0; q < queries; q++) {
+            trackerAnswers[q] = tracker.kthLargest(q * 1_000);
+        }
+        long trackerTime = System.nanoTime() - trackerStart;
+
+        long copyStart = System.nanoTime();
+        int[] copyAnswers = new int[queries];
+        for (int q = 0; q < queries; q++) {
+            List<Integer> copy = Arrays.stream(tracker.windowSnapshot()).boxed().collect(Collectors.toList());
+            copy.sort((o1, o2) -> Integer.compare(o2, o1));
+            copyAnswers[q] = copy.get(q * 1_000);
+        }
+        long copyTime = System.nanoTime() - copyStart;
+
+        // Then
+        double insertsPerSecond = threads * eventsPerThread * 1e9 / insertTime;
+        assertThat(trackerAnswers).containsExactly(copyAnswers);
+        assertThat(insertsPerSecond)
+            .as("Insert throughput (%.0f ops/s)", insertsPerSecond)
+            .isGreaterThan(100_000);
+        assertThat(trackerTime)
+            .as("Tracker queries (%d us) vs copy-and-sort (%d us)", trackerTime / 1_000, copyTime / 1_000)
+            .isLessThan(copyTime);
+    }
+
+    // Test data providers
+    static Stream<Arguments> provideSequentialScenarios() {
+        Random random = new Random(31);
+        return Stream.of(
+            Arguments.of(3, new int[]{5, 1, 4, 2, 8, 8, 0}, "Small window"),
+            Arguments.of(1, new int[]{7, -3, 9}, "Window of one"),
+            Arguments.of(5, new int[]{-1_000, 1_000, 0, -1_000, 1_000, 0}, "Domain bounds"),
+            Arguments.of(10, random.ints(200, -1_000, 1_001).toArray(), "Random events"),
+            Arguments.of(16, random.ints(200, 0, 4).toArray(), "Few distinct values"),
+            Arguments.of(500, random.ints(100, -50, 50).toArray(), "Window larger than the stream")
+        );
+    }
+}
@@ -0,0 +1,257 @@
+package com.zaroum.javacodingproblems;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Kth Largest Element - Streaming Top-K Tests
+ *
+ * Problem Description:
+ * Given an unbounded feed of integers and an integer k, be able to report the kth largest
+ * value seen so far (k=0 is the largest) at any point in time, without keeping the whole
+ * feed in memory.
+ *
+ * Examples:
+ * - feed 3,1,4,1,5 with k=1 → after "3,1" the answer is 1, after "3,1,4" it is 3, at the end it is 4
+ * - feed 7 with k=2 → no answer yet (fewer than k+1 values seen)
+ *
+ * Algorithm:
+ * 1. Keep the k+1 largest values seen so far in a primitive min-heap
+ * 2. While the heap is not full, push every value
+ * 3. Once full, a new value replaces the root only if it is larger, followed by a sift-down
+ * 4. The root of a full heap is the kth largest value seen so far
+ *
+ * Implementation Details:
+ * - Heap storage is a single int[k+1], so memory is O(k) no matter how long the feed runs; k must
+ *   stay below Integer.MAX_VALUE for k+1 to fit an array
+ * - Accepts pushed values (IntConsumer), IntStream and PrimitiveIterator.OfInt sources
+ * - Querying before k+1 values were seen throws NoSuchElementException
+ * - Not thread-safe, one selector per producer
+ *
+ * Time Complexity: O(log k) per value, O(1) per query
+ * Space Complexity: O(k)
+ */
+@DisplayName("Kth Largest Element Streaming Top-K Tests")
+public class KthLargestStreamingTopKTest {
+
+    /**
+     * Bounded-memory selector that tracks the k+1 largest values of an int feed.
+     */
+    static final class StreamingTopK implements IntConsumer {
+
+        private final int[] heap;
+        private int size;
+        private long count;
+
+        StreamingTopK(int k) {
+            if (k < 0 || k == Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("k must be in [0, " + Integer.MAX_VALUE + ") but was " + k);
+            }
+            this.heap = new int[k + 1];
+        }
+
+        @Override
+        public void accept(int value) {
+            count++;
+            if (size < heap.length) {
+                siftUp(size++, value);
+            } else if (value > heap[0]) {
+                siftDown(value);
+            }
+        }
+
+        StreamingTopK addAll(IntStream values) {
+            values.sequential().forEach(this);
+            return this;
+        }
+
+        StreamingTopK addAll(PrimitiveIterator.OfInt values) {
+            while (values.hasNext()) {
+                accept(values.nextInt());
+            }
+            return this;
+        }
+
+        boolean isReady() {
+            return size == heap.length;
+        }
+
+        int kthLargest() {
+            if (!isReady()) {
+                throw new NoSuchElementException("Only " + count + " values seen, need " + heap.length);
+            }
+            return heap[0];
+        }
+
+        /**
+         * @return the retained values in descending order (at most k+1 of them)
+         */
+        int[] topK() {
+            int[] result = Arrays.copyOf(heap, size);
+            Arrays.sort(result);
+            for (int i = 0, j = result.length - 1; i < j; i++, j--) {
+                int t = result[i];
+                result[i] = result[j];
+                result[j] = t;
+            }
+            return result;
+        }
+
+        long count() {
+            return count;
+        }
+
+        int capacity() {
+            return heap.length;
+        }
+
+        private void siftUp(int index, int value) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (heap[parent] <= value) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = value;
+        }
+
+        private void siftDown(int value) {
+            int index = 0;
+            int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                int right = child + 1;
+                if (right < size && heap[right] < heap[child]) {
+                    child = right;
+                }
+                if (value <= heap[child]) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = value;
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideFeeds")
+    @DisplayName("Should report the kth largest after every pushed value")
+    void shouldReportKthLargestAfterEveryPushedValue(int[] feed, int k, String description) {
+        // Given
+        StreamingTopK selector = new StreamingTopK(k);
+        List<Integer> seen = new ArrayList<>();
+
+        for (int value : feed) {
+            // When
+            selector.accept(value);
+            seen.add(value);
+
+            // Then
+            if (seen.size() <= k) {
+                assertThat(selector.isReady())
+                    .as("Testing not ready yet: %s after %d values", description, seen.size())
+                    .isFalse();
+            } else {
+                seen.sort(Comparator.reverseOrder());
+                assertThat(selector.kthLargest())
+                    .as("Testing running kth largest: %s after %d values", description, seen.size())
+                    .isEqualTo(seen.get(k));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideFeeds")
+    @DisplayName("Should give the same answer for IntStream and iterator sources")
+    void shouldGiveSameAnswerForStreamAndIteratorSources(int[] feed, int k, String description) {
+        // When
+        StreamingTopK fromStream = new StreamingTopK(k).addAll(IntStream.of(feed));
+        StreamingTopK fromIterator = new StreamingTopK(k).addAll(Arrays.stream(feed).iterator());
+
+        // Then
+        assertThat(fromStream.topK())
+            .as("Testing stream vs iterator: %s", description)
+            .containsExactly(fromIterator.topK());
+        assertThat(fromStream.count())
+            .as("Testing count: %s", description)
+            .isEqualTo(feed.length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 9, 99, 999})
+    @DisplayName("Should keep memory bounded on a long feed")
+    void shouldKeepMemoryBoundedOnLongFeed(int k) {
+        // Given
+        int n = 5_000_000;
+        Random random = new Random(k);
+        int[] expected = random.ints(n).toArray();
+        Arrays.sort(expected);
+
+        // When
+        StreamingTopK selector = new StreamingTopK(k).addAll(new Random(k).ints(n));
+
+        // Then
+        assertThat(selector.capacity()).isEqualTo(k + 1);
+        assertThat(selector.count()).isEqualTo(n);
+        assertThat(selector.kthLargest()).isEqualTo(expected[n - 1 - k]);
+    }
+
+    @Test
+    @DisplayName("Should return retained values in descending order")
+    void shouldReturnRetainedValuesInDescendingOrder() {
+        // When
+        StreamingTopK selector = new StreamingTopK(2).addAll(IntStream.of(3, 1, 4, 1, 5, 9, 2, 6));
+
+        // Then
+        assertThat(selector.topK()).containsExactly(9, 6, 5);
+        assertThat(selector.kthLargest()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should reject queries before k+1 values were seen and k outside [0, MAX_VALUE)")
+    void shouldRejectInvalidUsage() {
+        // Given
+        StreamingTopK selector = new StreamingTopK(2);
+        selector.accept(1);
+
+        // When & Then
+        assertThatThrownBy(selector::kthLargest).isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> new StreamingTopK(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new StreamingTopK(Integer.MAX_VALUE)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // Test data providers
+    static Stream<Arguments> provideFeeds() {
+        Random random = new Random(11);
+        return Stream.of(
+            Arguments.of(new int[]{3, 1, 4, 1, 5}, 0, "Small feed, k=0"),
+            Arguments.of(new int[]{3, 1, 4, 1, 5}, 1, "Small feed, k=1"),
+            Arguments.of(new int[]{3, 1, 4, 1, 5}, 4, "Small feed, k=4"),
+            Arguments.of(new int[]{5, 5, 5, 5}, 2, "All equal"),
+            Arguments.of(new int[]{-1, -2, -3, 0, Integer.MIN_VALUE, Integer.MAX_VALUE}, 2, "Negative and extreme values"),
+            Arguments.of(IntStream.range(0, 200).toArray(), 10, "Ascending feed"),
+            Arguments.of(IntStream.range(0, 200).map(i -> -i).toArray(), 10, "Descending feed"),
+            Arguments.of(random.ints(300, -100, 100).toArray(), 25, "Random with duplicates")
+        );
+    }
+}
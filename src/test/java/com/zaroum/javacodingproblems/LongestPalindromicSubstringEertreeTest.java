@@ -0,0 +1,333 @@
+package com.zaroum.javacodingproblems;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Problem: Online Longest Palindromic Substring (Palindromic Tree / Eertree)
+ *
+ * Text arrives one character at a time. After every append, report the longest palindromic
+ * suffix, the longest palindromic substring of the text so far, and the number of distinct
+ * palindromic substrings, without rescanning the text.
+ *
+ * Examples:
+ * - Appending "a", "b", "a":
+ *   after "a"   → longest suffix "a",   longest "a",   1 distinct palindrome
+ *   after "ab"  → longest suffix "b",   longest "a",   2 distinct palindromes
+ *   after "aba" → longest suffix "aba", longest "aba", 3 distinct palindromes
+ *
+ * Algorithm: Eertree
+ * Every distinct palindrome of the text is a node. Two roots hold the lengths -1 (imaginary)
+ * and 0 (empty). A node has a suffix link to its longest proper palindromic suffix and one edge
+ * per character c leading to the palindrome c + node + c.
+ *
+ * Steps for appending character c at position i:
+ * 1. Starting from the longest palindromic suffix, follow suffix links until the palindrome
+ *    of length L is preceded by c (text[i - L - 1] == c)
+ * 2. If that node already has an edge for c, the new longest suffix is an existing palindrome
+ * 3. Otherwise create a node of length L + 2, find its suffix link the same way starting from
+ *    the next suffix link, and add the edge
+ * 4. Update the longest palindrome seen so far (strictly longer only, so the leftmost wins)
+ *
+ * Implementation Details:
+ * - Node lengths and suffix links are primitive int[] arrays that grow by doubling
+ * - Edges live in one open-addressing table keyed by (node, character) packed into a long
+ * - At most one node is created per append, so the distinct palindrome count is nodes - 2
+ *
+ * Time Complexity: O(1) amortized per append (suffix link walks are amortized over the text)
+ * Space Complexity: O(n) - At most n + 2 nodes and n edges
+ */
+public class LongestPalindromicSubstringEertreeTest {
+
+    /**
+     * Incremental palindrome analyzer backed by an eertree.
+     */
+    static final class IncrementalPalindromeAnalyzer {
+
+        private static final int IMAGINARY_ROOT = 0;
+        private static final int EMPTY_ROOT = 1;
+        private static final long NO_KEY = -1L;
+
+        private char[] text = new char[16];
+        private int length;
+
+        private int[] nodeLength = new int[16];
+        private int[] suffixLink = new int[16];
+        private int nodes;
+        private int longestSuffix = EMPTY_ROOT;
+
+        private long[] edgeKeys = new long[32];
+        private int[] edgeTargets = new int[32];
+        private int edges;
+
+        private int bestStart;
+        private int bestLength;
+
+        IncrementalPalindromeAnalyzer() {
+            Arrays.fill(edgeKeys, NO_KEY);
+            nodeLength[IMAGINARY_ROOT] = -1;
+            suffixLink[IMAGINARY_ROOT] = IMAGINARY_ROOT;
+            nodeLength[EMPTY_ROOT] = 0;
+            suffixLink[EMPTY_ROOT] = IMAGINARY_ROOT;
+            nodes = 2;
+        }
+
+        void append(char c) {
+            if (length == text.length) {
+                text = Arrays.copyOf(text, length * 2);
+            }
+            int position = length;
+            text[length++] = c;
+
+            int current = findPrecededBy(longestSuffix, position, c);
+            int existing = edge(current, c);
+            if (existing >= 0) {
+                longestSuffix = existing;
+            } else {
+                int node = newNode(nodeLength[current] + 2);
+                suffixLink[node] = nodeLength[node] == 1
+                    ? EMPTY_ROOT
+                    : edge(findPrecededBy(suffixLink[current], position, c), c);
+                putEdge(current, c, node);
+                longestSuffix = node;
+            }
+
+            if (nodeLength[longestSuffix] > bestLength) {
+                bestLength = nodeLength[longestSuffix];
+                bestStart = position - bestLength + 1;
+            }
+        }
+
+        void append(CharSequence chars) {
+            for (int i = 0; i < chars.length(); i++) {
+                append(chars.charAt(i));
+            }
+        }
+
+        int longestPalindromicSuffixLength() {
+            return nodeLength[longestSuffix];
+        }
+
+        String longestPalindromicSuffix() {
+            return new String(text, length - nodeLength[longestSuffix], nodeLength[longestSuffix]);
+        }
+
+        String longestPalindrome() {
+            return new String(text, bestStart, bestLength);
+        }
+
+        int distinctPalindromeCount() {
+            return nodes - 2;
+        }
+
+        int length() {
+            return length;
+        }
+
+        private int findPrecededBy(int node, int position, char c) {
+            while (true) {
+                int before = position - nodeLength[node] - 1;
+                if (before >= 0 && text[before] == c) {
+                    return node;
+                }
+                node = suffixLink[node];
+            }
+        }
+
+        private int newNode(int palindromeLength) {
+            if (nodes == nodeLength.length) {
+                nodeLength = Arrays.copyOf(nodeLength, nodes * 2);
+                suffixLink = Arrays.copyOf(suffixLink, nodes * 2);
+            }
+            nodeLength[nodes] = palindromeLength;
+            return nodes++;
+        }
+
+        private int edge(int node, char c) {
+            long key = (long) node << 16 | c;
+            int mask = edgeKeys.length - 1;
+            for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+                if (edgeKeys[slot] == key) {
+                    return edgeTargets[slot];
+                }
+                if (edgeKeys[slot] == NO_KEY) {
+                    return -1;
+                }
+            }
+        }
+
+        private void putEdge(int node, char c, int target) {
+            if (2 * (edges + 1) > edgeKeys.length) {
+                long[] oldKeys = edgeKeys;
+                int[] oldTargets = edgeTargets;
+                edgeKeys = new long[oldKeys.length * 2];
+                edgeTargets = new int[oldKeys.length * 2];
+                Arrays.fill(edgeKeys, NO_KEY);
+                for (int i = 0; i < oldKeys.length; i++) {
+                    if (oldKeys[i] != NO_KEY) {
+                        insert(oldKeys[i], oldTargets[i]);
+                    }
+                }
+            }
+            insert((long) node << 16 | c, target);
+            edges++;
+        }
+
+        private void insert(long key, int target) {
+            int mask = edgeKeys.length - 1;
+            int slot = hash(key) & mask;
+            while (edgeKeys[slot] != NO_KEY) {
+                slot = (slot + 1) & mask;
+            }
+            edgeKeys[slot] = key;
+            edgeTargets[slot] = target;
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+    /**
+     * Parameterized test checking every prefix against the batch implementation and brute force
+     */
+    @ParameterizedTest
+    @MethodSource("provideTestCases")
+    void testIncrementalAnalysisAfterEveryAppend(String input) {
+        // Given
+        IncrementalPalindromeAnalyzer analyzer = new IncrementalPalindromeAnalyzer();
+        LongestPalindromicSubstringTest batch = new LongestPalindromicSubstringTest();
+
+        for (int i = 0; i < input.length(); i++) {
+            // When
+            analyzer.append(input.charAt(i));
+            String prefix = input.substring(0, i + 1);
+
+            // Then
+            assertThat(analyzer.longestPalindrome())
+                .as("Longest palindrome after appending prefix '%s'", prefix)
+                .isEqualTo(batch.longestPalindrome(prefix));
+            assertThat(analyzer.longestPalindromicSuffix())
+                .as("Longest palindromic suffix of prefix '%s'", prefix)
+                .isEqualTo(longestPalindromicSuffixBruteForce(prefix));
+            assertThat(analyzer.distinctPalindromeCount())
+                .as("Distinct palindromes of prefix '%s'", prefix)
+                .isEqualTo(distinctPalindromesBruteForce(prefix));
+        }
+    }
+
+    /**
+     * Randomized differential test on small alphabets where palindromes are frequent
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 26})
+    void testIncrementalAnalysisOnRandomText(int alphabetSize) {
+        // Given
+        Random random = new Random(alphabetSize);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            sb.append((char) ('a' + random.nextInt(alphabetSize)));
+        }
+        String input = sb.toString();
+        IncrementalPalindromeAnalyzer analyzer = new IncrementalPalindromeAnalyzer();
+
+        // When
+        analyzer.append(input);
+
+        // Then
+        assertThat(analyzer.length()).isEqualTo(input.length());
+        assertThat(analyzer.longestPalindrome()).isEqualTo(new LongestPalindromicSubstringTest().longestPalindrome(input));
+        assertThat(analyzer.distinctPalindromeCount()).isEqualTo(distinctPalindromesBruteForce(input));
+    }
+
+    /**
+     * Performance test: one million appends must stay linear overall, including on long runs
+     */
+    @ParameterizedTest
+    @MethodSource("providePerformanceTestCases")
+    void testAppendPerformance(String input, int expectedLongest, int expectedDistinct) {
+        // Given
+        IncrementalPalindromeAnalyzer analyzer = new IncrementalPalindromeAnalyzer();
+
+        // When
+        long startTime = System.nanoTime();
+        for (int i = 0; i < input.length(); i++) {
+            analyzer.append(input.charAt(i));
+            analyzer.longestPalindromicSuffixLength();
+        }
+        long executionTime = System.nanoTime() - startTime;
+
+        // Then
+        assertThat(analyzer.longestPalindrome()).hasSize(expectedLongest);
+        assertThat(analyzer.distinctPalindromeCount()).isEqualTo(expectedDistinct);
+        assertThat(executionTime)
+            .as("Execution time should be linear for %d appends", input.length())
+            .isLessThan(1_000_000_000L); // 1s in nanoseconds
+    }
+
+    private static String longestPalindromicSuffixBruteForce(String s) {
+        for (int start = 0; start < s.length(); start++) {
+            String suffix = s.substring(start);
+            if (new StringBuilder(suffix).reverse().toString().equals(suffix)) {
+                return suffix;
+            }
+        }
+        return "";
+    }
+
+    private static int distinctPalindromesBruteForce(String s) {
+        Set<String> palindromes = new HashSet<>();
+        for (int i = 0; i < s.length(); i++) {
+            for (int j = i + 1; j <= s.length(); j++) {
+                String candidate = s.substring(i, j);
+                if (new StringBuilder(candidate).reverse().toString().equals(candidate)) {
+                    palindromes.add(candidate);
+                }
+            }
+        }
+        return palindromes.size();
+    }
+
+    /**
+     * Provides test data for the parameterized test
+     */
+    static Stream<Arguments> provideTestCases() {
+        return Stream.of(
+            Arguments.of("a"),
+            Arguments.of("aba"),
+            Arguments.of("abba"),
+            Arguments.of("babad"),
+            Arguments.of("cbbd"),
+            Arguments.of("aaaaaa"),
+            Arguments.of("abacabad"),
+            Arguments.of("forgeeksskeegfor"),
+            Arguments.of("tattarrattat"),
+            Arguments.of("bananas"),
+            Arguments.of("abc12321def"),
+            Arguments.of("a1b2c2b1a")
+        );
+    }
+
+    /**
+     * Provides one-million-character streams
+     */
+    static Stream<Arguments> providePerformanceTestCases() {
+        int n = 1_000_000;
+        return Stream.of(
+            Arguments.of("a".repeat(n), n, n),            // Every prefix run is a new palindrome
+            Arguments.of("ab".repeat(n / 2), n - 1, n),   // "a", "b", then one new palindrome per append
+            Arguments.of("abcd".repeat(n / 4), 1, 4)      // No palindrome longer than 1
+        );
+    }
+}
@@ -0,0 +1,400 @@
+package com.zaroum.javacodingproblems;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Problem: Longest Palindromic Substring on Multiple Cores
+ *
+ * Same problem as {@link LongestPalindromicSubstringTest}, for inputs of hundreds of MB (for
+ * example DNA over "ACGT"), where the single loop over centers should use every core. The result
+ * must be identical to the sequential one, including the leftmost-wins tie-break.
+ *
+ * Algorithm: chunked Manacher with a cross-boundary stitch
+ * 1. Split the text into chunks and run Manacher on every chunk in parallel, writing the radii
+ *    of the chunk's own centers into one shared int[2n+1] array (same layout as
+ *    {@link LongestPalindromicSubstringTest#palindromeRadii(String)})
+ * 2. A chunk-local radius that stops before both chunk borders ended on a mismatch inside the
+ *    chunk, so it is final; the chunk keeps the longest of those (leftmost on ties)
+ * 3. A radius that touches a chunk border may continue in the neighbouring chunk; the center is
+ *    recorded as pending with its local radius as a lower bound
+ * 4. A sequential stitch pass visits only the pending centers, left to right, and expands them
+ *    past the chunk borders like Manacher: it starts from the larger of the local radius and the
+ *    mirrored radius inside the rightmost palindrome found so far (every center left of the
+ *    current one is final at that point), so the stitch stays linear even on long runs
+ * 5. Reduce all candidates by (longest, then smallest center), which is the sequential order
+ *
+ * Implementation Details:
+ * - Chunk tasks are forked as a balanced RecursiveAction tree on a configurable pool
+ * - Random or genomic-like texts have only a handful of pending centers per chunk, so almost all
+ *   character comparisons happen in the parallel phase
+ * - Runs like "aaaa..." make every center pending; the stitch then degrades to one sequential
+ *   Manacher pass over those centers, never to quadratic expansion
+ *
+ * Time Complexity: O(n / p + pending) with p workers, O(n) in the worst case
+ * Space Complexity: O(n) - One int[2n+1] radius array plus the pending center lists
+ */
+public class LongestPalindromicSubstringParallelTest {
+
+    /**
+     * Fork/join longest palindrome search over fixed-size chunks.
+     */
+    static final class ParallelLongestPalindrome {
+
+        static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+        private final ForkJoinPool pool;
+        private final int chunkSize;
+
+        ParallelLongestPalindrome() {
+            this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+        }
+
+        ParallelLongestPalindrome(ForkJoinPool pool, int chunkSize) {
+            if (chunkSize < 1) {
+                throw new IllegalArgumentException("chunkSize must be >= 1 but was " + chunkSize);
+            }
+            this.pool = Objects.requireNonNull(pool);
+            this.chunkSize = chunkSize;
+        }
+
+        String longestPalindrome(String s) {
+            if (s == null || s.isEmpty()) {
+                return "";
+            }
+            int n = s.length();
+            int chunks = (n + chunkSize - 1) / chunkSize;
+            ChunkResults results = new ChunkResults(s, chunkSize, chunks);
+            pool.invoke(new ChunkAction(results, 0, chunks));
+
+            int bestCenter = -1;
+            int bestLength = 0;
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                if (better(results.bestLength[chunk], results.bestCenter[chunk], bestLength, bestCenter)) {
+                    bestLength = results.bestLength[chunk];
+                    bestCenter = results.bestCenter[chunk];
+                }
+            }
+
+            // Stitch: finish the pending centers left to right, reusing mirrors like Manacher
+            int[] radii = results.radii;
+            int centers = radii.length;
+            int mirrorCenter = 0;
+            int right = 0;
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int[] pending = results.pending[chunk];
+                for (int i = 0, count = results.pendingCount[chunk]; i < count; i++) {
+                    int center = pending[i];
+                    int radius = radii[center];
+                    if (center < right) {
+                        radius = Math.max(radius, Math.min(right - center, radii[2 * mirrorCenter - center]));
+                    }
+                    while (center - radius - 1 >= 0 && center + radius + 1 < centers
+                        && ((center + radius + 1) % 2 == 0 || s.charAt((center - radius - 2) / 2) == s.charAt((center + radius) / 2))) {
+                        radius++;
+                    }
+                    radii[center] = radius;
+                    if (center + radius > right) {
+                        mirrorCenter = center;
+                        right = center + radius;
+                    }
+                    if (better(radius, center, bestLength, bestCenter)) {
+                        bestLength = radius;
+                        bestCenter = center;
+                    }
+                }
+            }
+
+            int start = (bestCenter - bestLength) / 2;
+            return s.substring(start, start + bestLength);
+        }
+
+        /**
+         * Longer wins; on equal length the smaller center (the leftmost palindrome) wins.
+         */
+        private static boolean better(int length, int center, int bestLength, int bestCenter) {
+            return length > bestLength || (length == bestLength && center >= 0 && (bestCenter < 0 || center < bestCenter));
+        }
+
+        private static final class ChunkResults {
+
+            final String text;
+            final int chunkSize;
+            final int[] radii;
+            final int[] bestCenter;
+            final int[] bestLength;
+            final int[][] pending;
+            final int[] pendingCount;
+
+            ChunkResults(String text, int chunkSize, int chunks) {
+                this.text = text;
+                this.chunkSize = chunkSize;
+                this.radii = new int[2 * text.length() + 1];
+                this.bestCenter = new int[chunks];
+                this.bestLength = new int[chunks];
+                this.pending = new int[chunks][];
+                this.pendingCount = new int[chunks];
+            }
+
+            /**
+             * Chunk-local Manacher. Local center j is global center 2 * from + j; the chunk owns
+             * the centers from its left border gap up to (excluding) its right border gap, and the
+             * last chunk also owns the final gap.
+             */
+            void searchChunk(int chunk) {
+                int from = chunk * chunkSize;
+                int length = Math.min(chunkSize, text.length() - from);
+                int base = 2 * from;
+                int localCenters = 2 * length + 1;
+                int owned = from + length == text.length() ? localCenters : localCenters - 1;
+
+                int[] chunkPending = new int[16];
+                int pendingSize = 0;
+                int best = 0;
+                int bestAt = -1;
+                int mirrorCenter = 0;
+                int right = 0;
+
+                for (int j = 0; j < owned; j++) {
+                    int radius = j < right ? Math.min(right - j, radii[base + 2 * mirrorCenter - j]) : 0;
+                    while (j - radius - 1 >= 0 && j + radius + 1 < localCenters
+                        && ((j + radius + 1) % 2 == 0 || text.charAt(from + (j - radius - 2) / 2) == text.charAt(from + (j + radius) / 2))) {
+                        radius++;
+                    }
+                    radii[base + j] = radius;
+                    if (j + radius > right) {
+                        mirrorCenter = j;
+                        right = j + radius;
+                    }
+
+                    if (j - radius == 0 || j + radius == localCenters - 1) {
+                        if (pendingSize == chunkPending.length) {
+                            chunkPending = Arrays.copyOf(chunkPending, pendingSize * 2);
+                        }
+                        chunkPending[pendingSize++] = base + j;
+                    } else if (radius > best) {
+                        best = radius;
+                        bestAt = base + j;
+                    }
+                }
+
+                bestLength[chunk] = best;
+                bestCenter[chunk] = bestAt;
+                pending[chunk] = chunkPending;
+                pendingCount[chunk] = pendingSize;
+            }
+        }
+
+        private static final class ChunkAction extends RecursiveAction {
+
+            private final ChunkResults results;
+            private final int from;
+            private final int to;
+
+            ChunkAction(ChunkResults results, int from, int to) {
+                this.results = results;
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute() {
+                if (to - from == 1) {
+                    results.searchChunk(from);
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                invokeAll(new ChunkAction(results, from, mid), new ChunkAction(results, mid, to));
+            }
+        }
+    }
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    /**
+     * Parameterized test comparing the parallel search with the sequential one for tiny chunks,
+     * so that most palindromes cross one or more chunk borders
+     */
+    @ParameterizedTest
+    @MethodSource("provideTestCases")
+    void testParallelMatchesSequential(String input) {
+        // Given
+        String expected = new LongestPalindromicSubstringTest().longestPalindrome(input);
+
+        for (int chunkSize : new int[]{1, 2, 3, 5, 8, 64, ParallelLongestPalindrome.DEFAULT_CHUNK_SIZE}) {
+            // When
+            String result = new ParallelLongestPalindrome(pool, chunkSize).longestPalindrome(input);
+
+            // Then
+            assertThat(result)
+                .as("Testing input '%s' with chunk size %d", input, chunkSize)
+                .isEqualTo(expected);
+        }
+    }
+
+    /**
+     * Randomized differential test over small alphabets and chunk sizes
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4})
+    void testRandomTextsMatchSequential(int alphabetSize) {
+        // Given
+        Random random = new Random(alphabetSize * 31L);
+        LongestPalindromicSubstringTest sequential = new LongestPalindromicSubstringTest();
+
+        for (int round = 0; round < 300; round++) {
+            String input = randomText(random, 1 + random.nextInt(400), alphabetSize);
+            int chunkSize = 1 + random.nextInt(40);
+
+            // When
+            String result = new ParallelLongestPalindrome(pool, chunkSize).longestPalindrome(input);
+
+            // Then
+            assertThat(result)
+                .as("Testing input '%s' with chunk size %d", input, chunkSize)
+                .isEqualTo(sequential.longestPalindrome(input));
+        }
+    }
+
+    @Test
+    void testEdgeCasesAndInvalidChunkSize() {
+        // Given
+        ParallelLongestPalindrome search = new ParallelLongestPalindrome(pool, 4);
+
+        // When & Then
+        assertThat(search.longestPalindrome(null)).isEmpty();
+        assertThat(search.longestPalindrome("")).isEmpty();
+        assertThat(search.longestPalindrome("x")).isEqualTo("x");
+        assertThat(search.longestPalindrome("ab")).isEqualTo("a");
+        assertThat(new ParallelLongestPalindrome().longestPalindrome("babad")).isEqualTo("bab");
+        assertThatThrownBy(() -> new ParallelLongestPalindrome(pool, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Performance test on 8M characters of random DNA with a planted 200K palindrome: sequential
+     * Manacher against the parallel search with one worker per core, up to 4 (best of 3 runs
+     * each). Almost every center is settled inside its chunk, so a second core should pay off;
+     * wall-clock runs on two loaded cores are noisy, so the parallel search is only required to
+     * stay within 25% of Manacher, which still catches centers falling through to the stitch pass.
+     */
+    @Test
+    void testParallelSpeedupOnGenomicText() {
+        // Given
+        int cores = Runtime.getRuntime().availableProcessors();
+        assumeTrue(cores >= 2, "A speedup needs at least 2 cores, this machine has " + cores);
+        String input = genomicText(new Random(2024), 8_000_000, 200_001);
+        LongestPalindromicSubstringTest sequential = new LongestPalindromicSubstringTest();
+        String expected = sequential.longestPalindrome(input);
+        ForkJoinPool workers = new ForkJoinPool(Math.min(4, cores));
+
+        try {
+            ParallelLongestPalindrome parallel = new ParallelLongestPalindrome(workers, ParallelLongestPalindrome.DEFAULT_CHUNK_SIZE);
+            parallel.longestPalindrome(input); // warm-up
+
+            // When
+            long sequentialTime = Measurements.bestNanos(3, () -> assertThat(sequential.longestPalindrome(input)).isEqualTo(expected));
+            long parallelTime = Measurements.bestNanos(3, () -> assertThat(parallel.longestPalindrome(input)).isEqualTo(expected));
+
+            // Then
+            assertThat(parallelTime)
+                .as("Parallel %d ms vs sequential %d ms with %d workers",
+                    parallelTime / 1_000_000, sequentialTime / 1_000_000, workers.getParallelism())
+                .isLessThan(sequentialTime * 5 / 4);
+        } finally {
+            workers.shutdown();
+        }
+    }
+
+    /**
+     * Runs make every center pending, so the sequential stitch pass does all the expansion there.
+     * It must stay linear: doubling the input from 4M to 8M characters may not cost 3 times as
+     * much, which a quadratic expansion (4 times) would.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"a", "ab", "aaaaaaab"})
+    void testStitchStaysLinearOnRuns(String pattern) {
+        // Given
+        String half = pattern.repeat(4_000_000 / pattern.length());
+        String full = half + half;
+        ParallelLongestPalindrome parallel = new ParallelLongestPalindrome(pool, ParallelLongestPalindrome.DEFAULT_CHUNK_SIZE);
+        assertThat(parallel.longestPalindrome(full)).isEqualTo(new LongestPalindromicSubstringTest().longestPalindrome(full));
+
+        // When
+        long halfTime = Measurements.bestNanos(3, () -> parallel.longestPalindrome(half));
+        long fullTime = Measurements.bestNanos(3, () -> parallel.longestPalindrome(full));
+
+        // Then
+        assertThat(fullTime)
+            .as("Runs of '%s': %d ms for 8M chars vs %d ms for 4M chars", pattern, fullTime / 1_000_000, halfTime / 1_000_000)
+            .isLessThan(3 * halfTime);
+    }
+
+    /**
+     * Random "ACGT" text with a palindrome of plantedLength planted across several chunk borders.
+     */
+    private static String genomicText(Random random, int length, int plantedLength) {
+        char[] dna = new char[length];
+        for (int i = 0; i < length; i++) {
+            dna[i] = "ACGT".charAt(random.nextInt(4));
+        }
+        int plantedStart = length / 3;
+        for (int i = 0; i < plantedLength / 2; i++) {
+            dna[plantedStart + plantedLength - 1 - i] = dna[plantedStart + i];
+        }
+        return new String(dna);
+    }
+
+    private static String randomText(Random random, int length, int alphabetSize) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(alphabetSize));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Provides test data for the parameterized test
+     */
+    static Stream<Arguments> provideTestCases() {
+        return Stream.of(
+            Arguments.of("a"),
+            Arguments.of("ac"),
+            Arguments.of("babad"),
+            Arguments.of("cbbd"),
+            Arguments.of("racecar"),
+            Arguments.of("forgeeksskeegfor"),
+            Arguments.of("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa"),
+            Arguments.of("abababababababababababababababababababababab"),
+            Arguments.of("xyzabacabaxyzabacabadabacabaxyz"),
+            Arguments.of("abcdefgfedcbazzzzzzzzzzzzzzabcdefgfedcba"),
+            Arguments.of("abaXabaYabaZaba")
+        );
+    }
+}
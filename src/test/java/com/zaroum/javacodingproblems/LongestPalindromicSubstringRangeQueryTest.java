@@ -0,0 +1,368 @@
+package com.zaroum.javacodingproblems;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Problem: Palindrome Range Queries
+ *
+ * Given one text and many ranges [l, r] (inclusive) of it, answer for each range whether the
+ * substring is a palindrome and which substring of the range is its longest palindrome,
+ * without allocating or rescanning the substring for every query.
+ *
+ * Examples (text = "abacabad"):
+ * - isPalindrome(0, 6) → true ("abacaba")
+ * - isPalindrome(1, 3) → false ("bac")
+ * - longestPalindromeIn(2, 7) → "acabad" contains "aca" and "aba", the leftmost "aca" wins
+ *
+ * Algorithm: Manacher radii + block sparse table
+ * The index keeps the Manacher radius array of the text (see
+ * {@link LongestPalindromicSubstringTest#palindromeRadii(String)}): center c in [0, 2n] is a gap
+ * when even and a character when odd, radii[c] is the length of its maximal palindrome.
+ *
+ * isPalindrome(l, r):
+ * The center of [l, r] is l + r + 1, so the range is a palindrome iff radii[l + r + 1] >= r - l + 1.
+ *
+ * longestPalindromeIn(l, r):
+ * 1. Inside the range, a center c can only keep min(radii[c], c - 2l, 2r + 2 - c) characters,
+ *    and all three values have the parity of c, so that length is always reachable
+ * 2. A palindrome of length L fits iff some c in [2l + L, 2r + 2 - L] has radii[c] >= L; this is
+ *    monotone in L, so binary search L with range-maximum queries over the radii
+ * 3. Find the leftmost such center with a binary-lifting descent over the sparse table, which
+ *    gives the leftmost longest palindrome like the batch algorithm
+ *
+ * Implementation Details:
+ * - The sparse table is built over block maxima of 16 centers, not over every center, which
+ *   cuts its size by 16x; partial blocks at both ends of a query are scanned directly
+ * - The text is kept by reference and only sliced when a palindrome is returned
+ * - Ranges are validated with IndexOutOfBoundsException, empty ranges are rejected
+ *
+ * Time Complexity: O(n) build (O(n / 16 * log n) for the table), O(1) isPalindrome,
+ *                  O(log n) longestPalindromeIn
+ * Space Complexity: O(n) - int[2n+1] radii plus the block sparse table
+ */
+public class LongestPalindromicSubstringRangeQueryTest {
+
+    /**
+     * Precomputed palindrome index over one text.
+     */
+    static final class PalindromeRangeIndex {
+
+        private static final int BLOCK_SHIFT = 4;
+        private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+        private static final long ARRAY_HEADER_BYTES = 16;
+
+        private final String text;
+        private final int[] radii;
+        private final int[][] blockMax; // blockMax[k][b] = max radius over blocks b .. b + 2^k - 1
+
+        PalindromeRangeIndex(String text) {
+            this.text = text;
+            this.radii = LongestPalindromicSubstringTest.palindromeRadii(text);
+
+            int blocks = (radii.length + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+            int levels = 32 - Integer.numberOfLeadingZeros(blocks);
+            blockMax = new int[levels][];
+            blockMax[0] = new int[blocks];
+            for (int center = 0; center < radii.length; center++) {
+                int block = center >>> BLOCK_SHIFT;
+                blockMax[0][block] = Math.max(blockMax[0][block], radii[center]);
+            }
+            for (int k = 1; k < levels; k++) {
+                int[] previous = blockMax[k - 1];
+                int half = 1 << (k - 1);
+                int[] level = new int[blocks - (1 << k) + 1];
+                for (int block = 0; block < level.length; block++) {
+                    level[block] = Math.max(previous[block], previous[block + half]);
+                }
+                blockMax[k] = level;
+            }
+        }
+
+        int length() {
+            return text.length();
+        }
+
+        boolean isPalindrome(int left, int right) {
+            checkRange(left, right);
+            return radii[left + right + 1] >= right - left + 1;
+        }
+
+        int longestPalindromeLengthIn(int left, int right) {
+            checkRange(left, right);
+            int low = 1;
+            int high = right - left + 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (rangeMax(2 * left + mid, 2 * right + 2 - mid) >= mid) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+
+        String longestPalindromeIn(int left, int right) {
+            int length = longestPalindromeLengthIn(left, right);
+            int center = firstAtLeast(2 * left + length, 2 * right + 2 - length, length);
+            int start = (center - length) / 2;
+            return text.substring(start, start + length);
+        }
+
+        /**
+         * @return the estimated heap bytes of the index arrays, excluding the text itself
+         */
+        long memoryFootprintBytes() {
+            long bytes = ARRAY_HEADER_BYTES + (long) Integer.BYTES * radii.length;
+            bytes += ARRAY_HEADER_BYTES + (long) Integer.BYTES * blockMax.length;
+            for (int[] level : blockMax) {
+                bytes += ARRAY_HEADER_BYTES + (long) Integer.BYTES * level.length;
+            }
+            return bytes;
+        }
+
+        private void checkRange(int left, int right) {
+            if (left < 0 || left > right || right >= text.length()) {
+                throw new IndexOutOfBoundsException("Range [" + left + ", " + right + "] out of bounds for length " + text.length());
+            }
+        }
+
+        private int rangeMax(int from, int to) {
+            int firstBlock = from >>> BLOCK_SHIFT;
+            int lastBlock = to >>> BLOCK_SHIFT;
+            if (lastBlock - firstBlock <= 1) {
+                return scanMax(from, to);
+            }
+            int max = Math.max(scanMax(from, (firstBlock + 1 << BLOCK_SHIFT) - 1), scanMax(lastBlock << BLOCK_SHIFT, to));
+            int blocks = lastBlock - firstBlock - 1;
+            int k = 31 - Integer.numberOfLeadingZeros(blocks);
+            max = Math.max(max, blockMax[k][firstBlock + 1]);
+            return Math.max(max, blockMax[k][lastBlock - (1 << k)]);
+        }
+
+        private int scanMax(int from, int to) {
+            int max = 0;
+            for (int center = from; center <= to; center++) {
+                max = Math.max(max, radii[center]);
+            }
+            return max;
+        }
+
+        private int firstAtLeast(int from, int to, int minRadius) {
+            int center = from;
+            int firstBlockEnd = Math.min(to, from | (BLOCK_SIZE - 1));
+            for (; center <= firstBlockEnd; center++) {
+                if (radii[center] >= minRadius) {
+                    return center;
+                }
+            }
+
+            // Skip whole blocks whose maximum is too small, largest jumps first
+            int block = center >>> BLOCK_SHIFT;
+            int lastBlock = to >>> BLOCK_SHIFT;
+            for (int k = blockMax.length - 1; k >= 0; k--) {
+                if (block + (1 << k) <= lastBlock && blockMax[k][block] < minRadius) {
+                    block += 1 << k;
+                }
+            }
+            for (center = Math.max(center, block << BLOCK_SHIFT); center <= to; center++) {
+                if (radii[center] >= minRadius) {
+                    return center;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Parameterized test comparing every range of a text against the rescanning implementations
+     */
+    @ParameterizedTest
+    @MethodSource("provideTestCases")
+    void testEveryRangeAgainstRescanning(String text) {
+        // Given
+        PalindromeRangeIndex index = new PalindromeRangeIndex(text);
+        ValidPalindromeTest validPalindrome = new ValidPalindromeTest();
+        LongestPalindromicSubstringTest longestPalindrome = new LongestPalindromicSubstringTest();
+
+        for (int left = 0; left < text.length(); left++) {
+            for (int right = left; right < text.length(); right++) {
+                String range = text.substring(left, right + 1);
+
+                // When & Then
+                assertThat(index.isPalindrome(left, right))
+                    .as("isPalindrome(%d, %d) of '%s'", left, right, text)
+                    .isEqualTo(validPalindrome.checkIsValidPalindrome(range));
+                assertThat(index.longestPalindromeIn(left, right))
+                    .as("longestPalindromeIn(%d, %d) of '%s'", left, right, text)
+                    .isEqualTo(longestPalindrome.longestPalindrome(range));
+            }
+        }
+    }
+
+    /**
+     * Randomized differential test on longer texts, where queries cross many sparse table blocks
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 26})
+    void testRandomRangesAgainstRescanning(int alphabetSize) {
+        // Given
+        Random random = new Random(alphabetSize);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 3_000; i++) {
+            sb.append((char) ('a' + random.nextInt(alphabetSize)));
+        }
+        String text = sb.toString();
+        PalindromeRangeIndex index = new PalindromeRangeIndex(text);
+        LongestPalindromicSubstringTest longestPalindrome = new LongestPalindromicSubstringTest();
+
+        for (int query = 0; query < 2_000; query++) {
+            int left = random.nextInt(text.length());
+            int right = left + random.nextInt(text.length() - left);
+            String range = text.substring(left, right + 1);
+
+            // When & Then
+            assertThat(index.isPalindrome(left, right))
+                .as("isPalindrome(%d, %d)", left, right)
+                .isEqualTo(new StringBuilder(range).reverse().toString().equals(range));
+            assertThat(index.longestPalindromeIn(left, right))
+                .as("longestPalindromeIn(%d, %d)", left, right)
+                .isEqualTo(longestPalindrome.longestPalindrome(range));
+        }
+    }
+
+    @Test
+    void testDocumentedExamplesAndInvalidRanges() {
+        // Given
+        PalindromeRangeIndex index = new PalindromeRangeIndex("abacabad");
+
+        // When & Then
+        assertThat(index.isPalindrome(0, 6)).isTrue();
+        assertThat(index.isPalindrome(1, 3)).isFalse();
+        assertThat(index.longestPalindromeIn(2, 7)).isEqualTo("aca");
+        assertThat(index.longestPalindromeLengthIn(0, 7)).isEqualTo(7);
+        assertThatThrownBy(() -> index.isPalindrome(-1, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> index.isPalindrome(3, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> index.longestPalindromeIn(0, 8)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> new PalindromeRangeIndex("").isPalindrome(0, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    /**
+     * Memory footprint benchmark: the index must stay within a small constant number of bytes
+     * per character and well below a sparse table over every center.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 100_000, 1_000_000})
+    void testMemoryFootprint(int n) {
+        // Given
+        String text = randomText(n, 2, n);
+
+        // When
+        long footprint = new PalindromeRangeIndex(text).memoryFootprintBytes();
+
+        // Then
+        long centers = 2L * n + 1;
+        long fullSparseTable = centers * Integer.BYTES * (64 - Long.numberOfLeadingZeros(centers));
+        assertThat(footprint)
+            .as("Index uses %d bytes (%.1f per char) vs %d bytes for a full sparse table at n=%d",
+                footprint, (double) footprint / n, fullSparseTable, n)
+            .isLessThan(20L * n + 1_024)
+            .isLessThan(fullSparseTable / 4);
+    }
+
+    /**
+     * Performance test: one million queries on a one-million-character text must beat rescanning
+     * the ranges by a wide margin.
+     */
+    @Test
+    void testQueryPerformanceAgainstRescanning() {
+        // Given
+        int n = 1_000_000;
+        String text = randomText(n, 2, 42);
+        Random random = new Random(7);
+        int queries = 1_000_000;
+        int[] lefts = new int[queries];
+        int[] rights = new int[queries];
+        for (int i = 0; i < queries; i++) {
+            lefts[i] = random.nextInt(n / 2);
+            rights[i] = lefts[i] + random.nextInt(n / 2);
+        }
+        PalindromeRangeIndex index = new PalindromeRangeIndex(text);
+        ValidPalindromeTest validPalindrome = new ValidPalindromeTest();
+
+        // When
+        long startTime = System.nanoTime();
+        int palindromes = 0;
+        long longestTotal = 0;
+        for (int i = 0; i < queries; i++) {
+            if (index.isPalindrome(lefts[i], rights[i])) {
+                palindromes++;
+            }
+            longestTotal += index.longestPalindromeLengthIn(lefts[i], rights[i]);
+        }
+        long indexTime = System.nanoTime() - startTime;
+
+        int rescanned = 1_000;
+        int rescannedPalindromes = 0;
+        startTime = System.nanoTime();
+        for (int i = 0; i < rescanned; i++) {
+            if (validPalindrome.checkIsValidPalindrome(text.substring(lefts[i], rights[i] + 1))) {
+                rescannedPalindromes++;
+            }
+        }
+        long rescanTime = System.nanoTime() - startTime;
+
+        // Then
+        int indexedPalindromes = 0;
+        for (int i = 0; i < rescanned; i++) {
+            if (index.isPalindrome(lefts[i], rights[i])) {
+                indexedPalindromes++;
+            }
+        }
+        assertThat(indexedPalindromes).isEqualTo(rescannedPalindromes);
+        assertThat(palindromes).isLessThan(queries / 100);
+        assertThat(longestTotal).isGreaterThanOrEqualTo(queries);
+        assertThat(indexTime)
+            .as("%d indexed query pairs took %d ms, %d rescans took %d ms", queries, indexTime / 1_000_000, rescanned, rescanTime / 1_000_000)
+            .isLessThan(2_000_000_000L); // 2s in nanoseconds
+        assertThat(indexTime / queries)
+            .as("Per-query index time should be far below one rescan")
+            .isLessThan(rescanTime / rescanned);
+    }
+
+    private static String randomText(int n, int alphabetSize, long seed) {
+        Random random = new Random(seed);
+        char[] chars = new char[n];
+        for (int i = 0; i < n; i++) {
+            chars[i] = (char) ('a' + random.nextInt(alphabetSize));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Provides short texts whose every range is checked
+     */
+    static Stream<Arguments> provideTestCases() {
+        return Stream.of(
+            Arguments.of("a"),
+            Arguments.of("abacabad"),
+            Arguments.of("babad"),
+            Arguments.of("cbbd"),
+            Arguments.of("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa"),
+            Arguments.of("forgeeksskeegfor"),
+            Arguments.of("racecar level noon"),
+            Arguments.of("abababababababababababababababababababa"),
+            Arguments.of("Madam12321madaM")
+        );
+    }
+}
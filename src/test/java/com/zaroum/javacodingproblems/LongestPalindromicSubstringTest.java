@@ -3,6 +3,11 @@ package com.zaroum.javacodingproblems;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,29 +39,35 @@ import static org.assertj.core.api.Assertions.assertThat;
  * - 1 <= s.length <= 1000
  * - s consist of only digits and English letters.
  * 
- * Algorithm: Expand Around Centers
- * The idea is to consider each character (and each pair of characters for even-length palindromes) 
- * as potential centers and expand outward while characters match.
+ * Algorithm: Manacher
+ * Every character and every gap between two characters is a potential center. Centers are
+ * numbered 0..2n in a virtual "#a#b#...#" string (even = gap, odd = character) and the
+ * palindrome radius of each center is stored in a single int[] array.
  * 
  * Steps:
- * 1. For each possible center in the string (both odd and even length palindromes)
- * 2. Expand around the center while characters match
- * 3. Keep track of the longest palindrome found so far
- * 4. Return the longest palindromic substring
+ * 1. Scan centers left to right while tracking the palindrome that reaches furthest right
+ * 2. For a center inside that palindrome, start from the radius of its mirror center
+ *    (capped at the right border) instead of from zero
+ * 3. Expand only beyond what is already known, which moves the right border forward
+ * 4. Keep track of the longest palindrome found so far (the leftmost one on ties, like
+ *    expanding around centers in order)
+ * 
+ * The radius array is exposed through {@link #palindromeRadii(String)} so every maximal
+ * palindrome (one per center) can be listed without running the algorithm again.
  * 
- * Time Complexity: O(n²) - For each center, we potentially expand O(n) times
- * Space Complexity: O(1) - Only using a few variables to track the longest palindrome
+ * Time Complexity: O(n) - The right border only moves forward, so total expansion work is O(n)
+ * Space Complexity: O(n) - One int[2n+1] radius array
  * 
  * Alternative approaches:
+ * - Expand Around Centers: O(n²) time, O(1) space (degrades on long runs like "aaaa...")
  * - Dynamic Programming: O(n²) time, O(n²) space
- * - Manacher's Algorithm: O(n) time, O(n) space (more complex implementation)
  * 
  * This test class validates the correctness of the implementation across various test cases.
  */
 public class LongestPalindromicSubstringTest {
 
     /**
-     * Finds the longest palindromic substring using the expand around centers approach.
+     * Finds the longest palindromic substring using Manacher's algorithm.
      * 
      * @param s the input string
      * @return the longest palindromic substring
@@ -66,24 +77,15 @@ public class LongestPalindromicSubstringTest {
             return "";
         }
         
+        int[] radii = palindromeRadii(s);
         int start = 0;
-        int maxLen = 1;
+        int maxLen = 0;
         
-        for (int i = 0; i < s.length(); i++) {
-            // Check for odd-length palindromes (center is a single character)
-            int len1 = expandAroundCenter(s, i, i);
-            
-            // Check for even-length palindromes (center is between two characters)
-            int len2 = expandAroundCenter(s, i, i + 1);
-            
-            // Get the maximum length palindrome centered at current position
-            int currentMaxLen = Math.max(len1, len2);
-            
-            // Update the longest palindrome if we found a longer one
-            if (currentMaxLen > maxLen) {
-                maxLen = currentMaxLen;
-                // Calculate the starting position of the palindrome
-                start = i - (currentMaxLen - 1) / 2;
+        for (int center = 0; center < radii.length; center++) {
+            // Strictly greater keeps the leftmost palindrome on ties
+            if (radii[center] > maxLen) {
+                maxLen = radii[center];
+                start = (center - maxLen) / 2;
             }
         }
         
@@ -91,23 +93,57 @@ public class LongestPalindromicSubstringTest {
     }
     
     /**
-     * Helper method to expand around a center and find the length of the palindrome.
+     * Computes the Manacher radius array of a string.
+     * 
+     * Center c in [0, 2n] denotes the gap before character c/2 when c is even and the
+     * character (c-1)/2 when c is odd. radii[c] is the length, in original characters, of the
+     * longest palindrome centered at c; it starts at index (c - radii[c]) / 2.
      * 
      * @param s the input string
-     * @param left the left index of the center
-     * @param right the right index of the center
-     * @return the length of the palindrome centered at the given indices
+     * @return the radius array of length 2 * s.length() + 1
      */
-    private int expandAroundCenter(String s, int left, int right) {
-        // Expand while characters match and indices are within bounds
-        while (left >= 0 && right < s.length() && s.charAt(left) == s.charAt(right)) {
-            left--;
-            right++;
+    static int[] palindromeRadii(String s) {
+        int centers = 2 * s.length() + 1;
+        int[] radii = new int[centers];
+        int mirrorCenter = 0;
+        int right = 0;
+        
+        for (int center = 0; center < centers; center++) {
+            // Reuse the mirrored radius inside the rightmost palindrome found so far
+            int radius = center < right ? Math.min(right - center, radii[2 * mirrorCenter - center]) : 0;
+            
+            // Gaps always match gaps; characters are compared at odd virtual positions
+            while (center - radius - 1 >= 0 && center + radius + 1 < centers
+                && ((center + radius + 1) % 2 == 0 || s.charAt((center - radius - 2) / 2) == s.charAt((center + radius) / 2))) {
+                radius++;
+            }
+            
+            radii[center] = radius;
+            if (center + radius > right) {
+                mirrorCenter = center;
+                right = center + radius;
+            }
         }
         
-        // Return the length of the palindrome
-        // right - left - 1 because we went one step too far in the while loop
-        return right - left - 1;
+        return radii;
+    }
+    
+    /**
+     * Lists the maximal palindrome of every center from a precomputed radius array.
+     * 
+     * @param s the input string
+     * @param radii the radius array returned by {@link #palindromeRadii(String)}
+     * @return the non-empty maximal palindromes, ordered by center
+     */
+    static List<String> maximalPalindromes(String s, int[] radii) {
+        List<String> palindromes = new ArrayList<>();
+        for (int center = 0; center < radii.length; center++) {
+            if (radii[center] > 0) {
+                int start = (center - radii[center]) / 2;
+                palindromes.add(s.substring(start, start + radii[center]));
+            }
+        }
+        return palindromes;
     }
 
     /**
@@ -178,6 +214,99 @@ public class LongestPalindromicSubstringTest {
             .isLessThan(50_000_000L); // 50ms in nanoseconds
     }
 
+    /**
+     * Differential test against the former expand-around-centers implementation
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 26})
+    void testLongestPalindromeMatchesExpandAroundCenters(int alphabetSize) {
+        Random random = new Random(alphabetSize);
+        for (int iteration = 0; iteration < 500; iteration++) {
+            // Given
+            StringBuilder sb = new StringBuilder();
+            int length = 1 + random.nextInt(60);
+            for (int i = 0; i < length; i++) {
+                sb.append((char) ('a' + random.nextInt(alphabetSize)));
+            }
+            String input = sb.toString();
+            
+            // When
+            String actualPalindrome = longestPalindrome(input);
+            
+            // Then
+            assertThat(actualPalindrome)
+                .as("Manacher vs expand around centers for input: '%s'", input)
+                .isEqualTo(longestPalindromeByExpansion(input));
+        }
+    }
+
+    /**
+     * Verifies every maximal palindrome listed from the radius array is a palindrome that cannot be extended
+     */
+    @ParameterizedTest
+    @MethodSource("provideTestCases")
+    void testMaximalPalindromesFromRadii(String input, String expectedPalindrome) {
+        // Given & When
+        int[] radii = palindromeRadii(input);
+        List<String> palindromes = maximalPalindromes(input, radii);
+        
+        // Then
+        assertThat(radii).hasSize(2 * input.length() + 1);
+        assertThat(palindromes).allMatch(this::isPalindrome);
+        for (int center = 0; center < radii.length; center++) {
+            int left = (center - radii[center]) / 2 - 1;
+            int right = (center + radii[center]) / 2;
+            assertThat(left >= 0 && right < input.length() && input.charAt(left) == input.charAt(right))
+                .as("Palindrome at center %d of '%s' should be maximal", center, input)
+                .isFalse();
+        }
+        if (!input.isEmpty()) {
+            assertThat(palindromes).contains(expectedPalindrome);
+        }
+    }
+
+    /**
+     * Adversarial inputs that take seconds with expansion around centers
+     */
+    @ParameterizedTest
+    @MethodSource("provideAdversarialTestCases")
+    void testLongestPalindromeOnAdversarialMegabyteInputs(String input, int expectedLength) {
+        // Given & When
+        long startTime = System.nanoTime();
+        String actualPalindrome = longestPalindrome(input);
+        long executionTime = System.nanoTime() - startTime;
+        
+        // Then
+        assertThat(actualPalindrome).hasSize(expectedLength);
+        assertThat(isPalindrome(actualPalindrome)).isTrue();
+        assertThat(executionTime)
+            .as("Execution time should be linear for input of length %d", input.length())
+            .isLessThan(500_000_000L); // 500ms in nanoseconds
+    }
+
+    /**
+     * Reference O(n²) expand-around-centers implementation used for differential testing
+     */
+    private String longestPalindromeByExpansion(String s) {
+        int start = 0;
+        int maxLen = 1;
+        for (int i = 0; i < s.length(); i++) {
+            for (int right = i; right <= i + 1; right++) {
+                int l = i;
+                int r = right;
+                while (l >= 0 && r < s.length() && s.charAt(l) == s.charAt(r)) {
+                    l--;
+                    r++;
+                }
+                if (r - l - 1 > maxLen) {
+                    maxLen = r - l - 1;
+                    start = l + 1;
+                }
+            }
+        }
+        return s.substring(start, start + maxLen);
+    }
+
     /**
      * Helper method to verify if a string is a palindrome
      */
@@ -298,4 +427,16 @@ public class LongestPalindromicSubstringTest {
             Arguments.of("abcd".repeat(250), 1)   // No palindrome longer than 1
         );
     }
+
+    /**
+     * Provides megabyte-sized inputs that are quadratic for expansion around centers
+     */
+    static Stream<Arguments> provideAdversarialTestCases() {
+        int n = 1_000_000;
+        return Stream.of(
+            Arguments.of("a".repeat(n), n),                          // Entire string is palindrome
+            Arguments.of("a".repeat(n / 2) + "b" + "a".repeat(n / 2 - 1), n - 1), // One long palindrome around 'b'
+            Arguments.of("ab".repeat(n / 2), n - 1)                  // Alternating characters
+        );
+    }
 }
@@ -0,0 +1,293 @@
+package com.zaroum.javacodingproblems;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Problem: Longest Substring Without Repeating Characters on Multiple Cores
+ *
+ * Same problem as {@link LongestSubstringWithoutRepeatingCharactersTest}, for very large inputs
+ * that should be split across cores. The result must equal the sequential one.
+ *
+ * Algorithm: divide and conquer over range summaries
+ * Every range [from, to) is summarized by:
+ * - best:   the length of its longest window without repeats
+ * - prefix: the length of its longest prefix without repeats
+ * - suffix: the length of its longest suffix without repeats
+ *
+ * Steps:
+ * 1. Split the range in halves until it is below the sequential cutoff, and summarize a leaf with
+ *    one sliding-window pass (the prefix ends at the first jump of left, the suffix is the final
+ *    window)
+ * 2. To merge L and R at boundary mid, every window that crosses the boundary lies inside
+ *    [mid - L.suffix, mid + R.prefix), because extending a window further would repeat a character
+ *    inside one half; run the sliding window on that cross range only, which also checks repeats
+ *    between the two halves
+ * 3. best = max(L.best, R.best, cross best)
+ * 4. The merged prefix only grows past L when L is entirely unique: then it is the cross range's
+ *    unique prefix; symmetrically for the suffix when R is entirely unique
+ *
+ * Implementation Details:
+ * - The halves are RecursiveTasks on a configurable ForkJoinPool
+ * - Summaries are index ranges into the shared string, nothing is copied
+ * - A unique run is at most as long as the alphabet, so every merge costs O(min(sigma, n)); on
+ *   low-entropy inputs (DNA, logs) merges are nearly free and the leaves dominate
+ * - Windows are counted in UTF-16 chars, like the sequential method
+ *
+ * Time Complexity: O(n / p + p * sigma) with p leaves running in parallel
+ * Space Complexity: O(log n) summaries on the recursion stack plus one last-index table per scan
+ */
+public class LongestSubstringWithoutRepeatingCharactersParallelTest {
+
+    record RangeSummary(int from, int to, int best, int prefix, int suffix) {
+
+        int length() {
+            return to - from;
+        }
+    }
+
+    /**
+     * Fork/join longest unique substring over range summaries.
+     */
+    static final class ParallelUniqueSubstring {
+
+        static final int DEFAULT_SEQUENTIAL_CUTOFF = 1 << 16;
+
+        private final ForkJoinPool pool;
+        private final int sequentialCutoff;
+
+        ParallelUniqueSubstring() {
+            this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_CUTOFF);
+        }
+
+        ParallelUniqueSubstring(ForkJoinPool pool, int sequentialCutoff) {
+            if (sequentialCutoff < 1) {
+                throw new IllegalArgumentException("sequentialCutoff must be >= 1 but was " + sequentialCutoff);
+            }
+            this.pool = Objects.requireNonNull(pool);
+            this.sequentialCutoff = sequentialCutoff;
+        }
+
+        int lengthOfLongestSubstringWithoutRepeatingCharacters(String s) {
+            if (s == null || s.isEmpty()) {
+                return 0;
+            }
+            return summarize(s).best();
+        }
+
+        RangeSummary summarize(String s) {
+            return pool.invoke(new SummaryTask(s, 0, s.length(), sequentialCutoff));
+        }
+
+        static RangeSummary merge(String s, RangeSummary left, RangeSummary right) {
+            int mid = left.to();
+            RangeSummary cross = scan(s, mid - left.suffix(), mid + right.prefix());
+            int best = Math.max(Math.max(left.best(), right.best()), cross.best());
+            int prefix = left.prefix() == left.length() ? cross.prefix() : left.prefix();
+            int suffix = right.suffix() == right.length() ? cross.suffix() : right.suffix();
+            return new RangeSummary(left.from(), right.to(), best, prefix, suffix);
+        }
+
+        /**
+         * Sequential sliding window over [from, to) that also reports the unique prefix and suffix.
+         */
+        static RangeSummary scan(String s, int from, int to) {
+            LongestSubstringWithoutRepeatingCharactersTest.LastIndexTable lastSeen = new LongestSubstringWithoutRepeatingCharactersTest.LastIndexTable();
+            int right = from;
+            // The table only holds this range, so any entry marks a repeat that ends the prefix
+            for (; right < to && lastSeen.get(s.charAt(right)) == 0; right++) {
+                lastSeen.put(s.charAt(right), right + 1);
+            }
+            int prefix = right - from;
+            int left = from;
+            int best = prefix;
+            // Same branch-free window as the sequential scan
+            for (; right < to; right++) {
+                char c = s.charAt(right);
+                left = Math.max(left, (int) lastSeen.get(c));
+                lastSeen.put(c, right + 1);
+                best = Math.max(best, right - left + 1);
+            }
+            return new RangeSummary(from, to, best, prefix, to - left);
+        }
+
+        private static final class SummaryTask extends RecursiveTask<RangeSummary> {
+
+            private final String s;
+            private final int from;
+            private final int to;
+            private final int sequentialCutoff;
+
+            SummaryTask(String s, int from, int to, int sequentialCutoff) {
+                this.s = s;
+                this.from = from;
+                this.to = to;
+                this.sequentialCutoff = sequentialCutoff;
+            }
+
+            @Override
+            protected RangeSummary compute() {
+                if (to - from <= sequentialCutoff) {
+                    return scan(s, from, to);
+                }
+                int mid = (from + to) >>> 1;
+                SummaryTask leftTask = new SummaryTask(s, from, mid, sequentialCutoff);
+                leftTask.fork();
+                RangeSummary right = new SummaryTask(s, mid, to, sequentialCutoff).compute();
+                return merge(s, leftTask.join(), right);
+            }
+        }
+    }
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    /**
+     * Parameterized test for known inputs with cutoffs small enough to split every window
+     */
+    @ParameterizedTest
+    @MethodSource("provideTestCases")
+    void testParallelMatchesKnownResults(String input, int expectedLength) {
+        for (int cutoff : new int[]{1, 2, 3, 5, ParallelUniqueSubstring.DEFAULT_SEQUENTIAL_CUTOFF}) {
+            // When
+            int actualLength = new ParallelUniqueSubstring(pool, cutoff).lengthOfLongestSubstringWithoutRepeatingCharacters(input);
+
+            // Then
+            assertThat(actualLength)
+                .as("Parallel length for input '%s' with cutoff %d", input, cutoff)
+                .isEqualTo(expectedLength);
+        }
+    }
+
+    /**
+     * Randomized differential test against the sequential implementation, also checking the
+     * prefix and suffix summaries of the whole input
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 26, 300, 20_000})
+    void testRandomInputsMatchSequential(int alphabetSize) {
+        // Given
+        Random random = new Random(alphabetSize * 17L);
+        LongestSubstringWithoutRepeatingCharactersTest sequential = new LongestSubstringWithoutRepeatingCharactersTest();
+
+        for (int round = 0; round < 300; round++) {
+            String input = randomText(random, 1 + random.nextInt(600), alphabetSize);
+            int cutoff = 1 + random.nextInt(50);
+
+            // When
+            RangeSummary summary = new ParallelUniqueSubstring(pool, cutoff).summarize(input);
+
+            // Then
+            RangeSummary expected = ParallelUniqueSubstring.scan(input, 0, input.length());
+            assertThat(summary.best())
+                .as("Alphabet %d, round %d, cutoff %d", alphabetSize, round, cutoff)
+                .isEqualTo(sequential.lengthOfLongestSubstringWithoutRepeatingCharacters(input));
+            assertThat(summary)
+                .as("Summary for alphabet %d, round %d, cutoff %d", alphabetSize, round, cutoff)
+                .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void testEdgeCasesAndInvalidCutoff() {
+        // Given
+        ParallelUniqueSubstring parallel = new ParallelUniqueSubstring(pool, 2);
+
+        // When & Then
+        assertThat(parallel.lengthOfLongestSubstringWithoutRepeatingCharacters(null)).isZero();
+        assertThat(parallel.lengthOfLongestSubstringWithoutRepeatingCharacters("")).isZero();
+        assertThat(new ParallelUniqueSubstring().lengthOfLongestSubstringWithoutRepeatingCharacters("pwwkew")).isEqualTo(3);
+        assertThatThrownBy(() -> new ParallelUniqueSubstring(pool, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Performance test on 32M-character low-entropy inputs: the sequential scan against the
+     * parallel mode with one worker per core, up to 4 (best of 3 runs each). Leaves only rescan a
+     * window of at most sigma characters around each border, so the parallel mode should be faster;
+     * wall-clock runs on two loaded cores are noisy, so it is only required to stay within 25% of
+     * the sequential scan, which still catches a leaf that rescans whole chunks.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {4, 64})
+    void testParallelSpeedupOnLowEntropyInput(int alphabetSize) {
+        // Given
+        int cores = Runtime.getRuntime().availableProcessors();
+        assumeTrue(cores >= 2, "A speedup needs at least 2 cores, this machine has " + cores);
+        String input = randomText(new Random(alphabetSize), 32_000_000, alphabetSize);
+        LongestSubstringWithoutRepeatingCharactersTest sequential = new LongestSubstringWithoutRepeatingCharactersTest();
+        int expected = sequential.lengthOfLongestSubstringWithoutRepeatingCharacters(input);
+        ForkJoinPool workers = new ForkJoinPool(Math.min(4, cores));
+
+        try {
+            ParallelUniqueSubstring parallel = new ParallelUniqueSubstring(workers, ParallelUniqueSubstring.DEFAULT_SEQUENTIAL_CUTOFF);
+            parallel.lengthOfLongestSubstringWithoutRepeatingCharacters(input); // warm-up
+
+            // When
+            long sequentialTime = Measurements.bestNanos(3,
+                () -> assertThat(sequential.lengthOfLongestSubstringWithoutRepeatingCharacters(input)).isEqualTo(expected));
+            long parallelTime = Measurements.bestNanos(3,
+                () -> assertThat(parallel.lengthOfLongestSubstringWithoutRepeatingCharacters(input)).isEqualTo(expected));
+
+            // Then
+            assertThat(parallelTime)
+                .as("Alphabet %d: parallel %d ms vs sequential %d ms with %d workers",
+                    alphabetSize, parallelTime / 1_000_000, sequentialTime / 1_000_000, workers.getParallelism())
+                .isLessThan(sequentialTime * 5 / 4);
+        } finally {
+            workers.shutdown();
+        }
+    }
+
+    private static String randomText(Random random, int length, int alphabetSize) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(alphabetSize));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Provides test data for the parameterized test
+     */
+    static Stream<Arguments> provideTestCases() {
+        return Stream.of(
+            Arguments.of("a", 1),
+            Arguments.of("abcabcbb", 3),
+            Arguments.of("bbbbb", 1),
+            Arguments.of("pwwkew", 3),
+            Arguments.of("abcdef", 6),
+            Arguments.of("dvdf", 3),
+            Arguments.of("anviaj", 5),
+            Arguments.of("abba", 2),
+            Arguments.of("tmmzuxt", 5),
+            Arguments.of("abcdefghijklmnopqrstuvwxyz", 26),
+            Arguments.of("aabbccddee", 2),
+            Arguments.of("abcabcdefg", 7)
+        );
+    }
+}
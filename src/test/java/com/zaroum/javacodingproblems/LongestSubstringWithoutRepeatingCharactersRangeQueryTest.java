@@ -0,0 +1,258 @@
+package com.zaroum.javacodingproblems;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Problem: Longest Substring Without Repeating Characters in Range Queries
+ *
+ * Given one text and many ranges [l, r] (inclusive) of it, return for each range the length of
+ * its longest substring without repeating characters, without rescanning the range.
+ *
+ * Examples (text = "abcabcbb"):
+ * - longestUniqueIn(0, 7) → 3 ("abc")
+ * - longestUniqueIn(5, 7) → 2 ("cb")
+ * - longestUniqueIn(6, 7) → 1 ("b")
+ *
+ * Algorithm: furthest unique end + sparse table
+ * 1. reach[i] is the furthest exclusive end such that s[i, reach[i]) has no repeats. Scanning
+ *    backwards, reach[i] = min(reach[i + 1], next occurrence of s[i]); it never decreases with i
+ * 2. Store span[i] = reach[i] - i and build a sparse table for range maximum over span
+ * 3. For a query [l, r] with exclusive end e = r + 1, the windows starting at i are capped at e:
+ *    min(reach[i], e) - i. Binary search the first start p in [l, e) with reach[p] >= e
+ * 4. Starts before p are not capped, so their best is the range maximum of span over [l, p);
+ *    starts from p on are capped and the longest of them is e - p
+ * 5. The answer is the larger of the two
+ *
+ * Implementation Details:
+ * - Next occurrences come from the primitive last-index table of
+ *   {@link LongestSubstringWithoutRepeatingCharactersTest.LastIndexTable}, no boxing
+ * - The sparse table is int[log n][n]; level k covers windows of 2^k starts
+ * - Ranges are validated with IndexOutOfBoundsException, empty ranges are rejected
+ *
+ * Time Complexity: O(n log n) build, O(log n) per query (binary search + O(1) range maximum)
+ * Space Complexity: O(n log n) - The sparse table
+ */
+public class LongestSubstringWithoutRepeatingCharactersRangeQueryTest {
+
+    /**
+     * Precomputed index answering longest unique substring queries on ranges of one text.
+     */
+    static final class UniqueSubstringRangeIndex {
+
+        private final int length;
+        private final int[] reach;
+        private final int[][] spanMax; // spanMax[k][i] = max span over starts i .. i + 2^k - 1
+
+        UniqueSubstringRangeIndex(String s) {
+            length = s.length();
+            reach = new int[length];
+            int[] span = new int[length];
+            LongestSubstringWithoutRepeatingCharactersTest.LastIndexTable nextSeen = new LongestSubstringWithoutRepeatingCharactersTest.LastIndexTable();
+            int furthest = length;
+            for (int i = length - 1; i >= 0; i--) {
+                char c = s.charAt(i);
+                int next = (int) nextSeen.get(c); // index + 1 of the next occurrence, 0 if none
+                if (next > 0) {
+                    furthest = Math.min(furthest, next - 1);
+                }
+                nextSeen.put(c, i + 1);
+                reach[i] = furthest;
+                span[i] = furthest - i;
+            }
+
+            int levels = length == 0 ? 0 : 32 - Integer.numberOfLeadingZeros(length);
+            spanMax = new int[levels][];
+            if (levels > 0) {
+                spanMax[0] = span;
+            }
+            for (int k = 1; k < levels; k++) {
+                int[] previous = spanMax[k - 1];
+                int half = 1 << (k - 1);
+                int[] level = new int[length - (1 << k) + 1];
+                for (int i = 0; i < level.length; i++) {
+                    level[i] = Math.max(previous[i], previous[i + half]);
+                }
+                spanMax[k] = level;
+            }
+        }
+
+        int longestUniqueIn(int left, int right) {
+            if (left < 0 || left > right || right >= length) {
+                throw new IndexOutOfBoundsException("Range [" + left + ", " + right + "] out of bounds for length " + length);
+            }
+            int end = right + 1;
+
+            // First start whose unique window reaches the end of the range (reach is non-decreasing)
+            int low = left;
+            int high = end;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (reach[mid] >= end) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            int capped = end - low;
+            return low > left ? Math.max(capped, spanMax(left, low - 1)) : capped;
+        }
+
+        private int spanMax(int from, int to) {
+            int k = 31 - Integer.numberOfLeadingZeros(to - from + 1);
+            return Math.max(spanMax[k][from], spanMax[k][to - (1 << k) + 1]);
+        }
+    }
+
+    /**
+     * Parameterized test comparing every range of a text with a fresh scan of the substring
+     */
+    @ParameterizedTest
+    @MethodSource("provideTestCases")
+    void testEveryRangeAgainstScanning(String text) {
+        // Given
+        UniqueSubstringRangeIndex index = new UniqueSubstringRangeIndex(text);
+        LongestSubstringWithoutRepeatingCharactersTest scanner = new LongestSubstringWithoutRepeatingCharactersTest();
+
+        for (int left = 0; left < text.length(); left++) {
+            for (int right = left; right < text.length(); right++) {
+                // When
+                int actualLength = index.longestUniqueIn(left, right);
+
+                // Then
+                assertThat(actualLength)
+                    .as("longestUniqueIn(%d, %d) of '%s'", left, right, text)
+                    .isEqualTo(scanner.lengthOfLongestSubstringWithoutRepeatingCharacters(text.substring(left, right + 1)));
+            }
+        }
+    }
+
+    /**
+     * Randomized differential test on longer texts and random ranges
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 26, 300, 20_000})
+    void testRandomRangesAgainstScanning(int alphabetSize) {
+        // Given
+        Random random = new Random(alphabetSize);
+        String text = randomText(random, 5_000, alphabetSize);
+        UniqueSubstringRangeIndex index = new UniqueSubstringRangeIndex(text);
+        LongestSubstringWithoutRepeatingCharactersTest scanner = new LongestSubstringWithoutRepeatingCharactersTest();
+
+        for (int query = 0; query < 2_000; query++) {
+            int left = random.nextInt(text.length());
+            int right = left + random.nextInt(text.length() - left);
+
+            // When
+            int actualLength = index.longestUniqueIn(left, right);
+
+            // Then
+            assertThat(actualLength)
+                .as("longestUniqueIn(%d, %d)", left, right)
+                .isEqualTo(scanner.lengthOfLongestSubstringWithoutRepeatingCharacters(text.substring(left, right + 1)));
+        }
+    }
+
+    @Test
+    void testDocumentedExamplesAndInvalidRanges() {
+        // Given
+        UniqueSubstringRangeIndex index = new UniqueSubstringRangeIndex("abcabcbb");
+
+        // When & Then
+        assertThat(index.longestUniqueIn(0, 7)).isEqualTo(3);
+        assertThat(index.longestUniqueIn(5, 7)).isEqualTo(2);
+        assertThat(index.longestUniqueIn(6, 7)).isEqualTo(1);
+        assertThatThrownBy(() -> index.longestUniqueIn(-1, 3)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> index.longestUniqueIn(4, 3)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> index.longestUniqueIn(0, 8)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> new UniqueSubstringRangeIndex("").longestUniqueIn(0, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    /**
+     * Performance test: one million queries over a 500K-character text must beat rescanning the
+     * ranges by a wide margin.
+     */
+    @Test
+    void testQueryPerformanceAgainstScanning() {
+        // Given
+        int n = 500_000;
+        Random random = new Random(18);
+        String text = randomText(random, n, 64);
+        int queries = 1_000_000;
+        int[] lefts = new int[queries];
+        int[] rights = new int[queries];
+        for (int i = 0; i < queries; i++) {
+            lefts[i] = random.nextInt(n / 2);
+            rights[i] = lefts[i] + random.nextInt(n / 2);
+        }
+        UniqueSubstringRangeIndex index = new UniqueSubstringRangeIndex(text);
+        LongestSubstringWithoutRepeatingCharactersTest scanner = new LongestSubstringWithoutRepeatingCharactersTest();
+
+        // When
+        long startTime = System.nanoTime();
+        long total = 0;
+        for (int i = 0; i < queries; i++) {
+            total += index.longestUniqueIn(lefts[i], rights[i]);
+        }
+        long indexTime = System.nanoTime() - startTime;
+
+        int rescanned = 200;
+        long rescannedTotal = 0;
+        long indexedTotal = 0;
+        startTime = System.nanoTime();
+        for (int i = 0; i < rescanned; i++) {
+            rescannedTotal += scanner.lengthOfLongestSubstringWithoutRepeatingCharacters(text.substring(lefts[i], rights[i] + 1));
+        }
+        long rescanTime = System.nanoTime() - startTime;
+        for (int i = 0; i < rescanned; i++) {
+            indexedTotal += index.longestUniqueIn(lefts[i], rights[i]);
+        }
+
+        // Then
+        assertThat(indexedTotal).isEqualTo(rescannedTotal);
+        assertThat(total).isGreaterThanOrEqualTo(queries);
+        assertThat(indexTime)
+            .as("%d indexed queries took %d ms, %d rescans took %d ms", queries, indexTime / 1_000_000, rescanned, rescanTime / 1_000_000)
+            .isLessThan(2_000_000_000L); // 2s in nanoseconds
+        assertThat(indexTime / queries)
+            .as("Per-query index time should be far below one rescan")
+            .isLessThan(rescanTime / rescanned);
+    }
+
+    private static String randomText(Random random, int length, int alphabetSize) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('!' + random.nextInt(alphabetSize));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Provides short texts whose every range is checked
+     */
+    static Stream<Arguments> provideTestCases() {
+        return Stream.of(
+            Arguments.of("a"),
+            Arguments.of("abcabcbb"),
+            Arguments.of("bbbbb"),
+            Arguments.of("pwwkew"),
+            Arguments.of("dvdf"),
+            Arguments.of("anviaj"),
+            Arguments.of("abba"),
+            Arguments.of("tmmzuxt"),
+            Arguments.of("abcdefghijklmnopqrstuvwxyz"),
+            Arguments.of("aabbccddee"),
+            Arguments.of("abcabcdefgabcdefghijabc"),
+            Arguments.of("a1b2c3a1b2c3!@#")
+        );
+    }
+}
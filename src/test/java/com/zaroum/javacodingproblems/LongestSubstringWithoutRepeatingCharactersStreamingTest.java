@@ -0,0 +1,289 @@
+package com.zaroum.javacodingproblems;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Problem: Longest Substring Without Repeating Characters over a Stream
+ *
+ * Same problem as {@link LongestSubstringWithoutRepeatingCharactersTest}, for inputs that do not
+ * fit in memory (multi-GB logs): read a Reader or a ReadableByteChannel once, through a fixed-size
+ * buffer, and report the length of the longest run without repeats and its absolute offset.
+ *
+ * Examples:
+ * - "abcabcbb" → length 3 at offset 0 ("abc", the leftmost of the longest runs)
+ * - "pwwkew"   → length 3 at offset 2 ("wke")
+ *
+ * Algorithm:
+ * 1. Fill the buffer from the source; positions keep counting across refills
+ * 2. For every unit, jump the window start past its last occurrence (last-index table, see
+ *    {@link LongestSubstringWithoutRepeatingCharactersTest.LastIndexTable})
+ * 3. Record the window when it becomes strictly longer than the best one, so the leftmost run wins
+ *
+ * Implementation Details:
+ * - A Reader is scanned char by char (UTF-16 units, like the in-memory method); a channel is
+ *   scanned byte by byte with offsets in bytes
+ * - Nothing but the buffer, the table and a few longs is kept: the table holds at most one
+ *   entry per distinct char (256 for bytes), so memory does not grow with the input
+ * - Offsets are longs, so inputs beyond 2 GB are supported
+ * - A scanner reuses its buffers across scans and is not thread-safe
+ *
+ * Time Complexity: O(n) - One pass, O(1) per unit
+ * Space Complexity: O(buffer + alphabet) - Independent of the input length
+ */
+public class LongestSubstringWithoutRepeatingCharactersStreamingTest {
+
+    record UniqueRun(long offset, int length) {}
+
+    /**
+     * One-pass longest-unique-run scanner over fixed-size buffers.
+     */
+    static final class StreamingUniqueSubstringScanner {
+
+        static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+        private final char[] chars;
+        private final ByteBuffer bytes;
+
+        StreamingUniqueSubstringScanner() {
+            this(DEFAULT_BUFFER_SIZE);
+        }
+
+        StreamingUniqueSubstringScanner(int bufferSize) {
+            if (bufferSize < 1) {
+                throw new IllegalArgumentException("bufferSize must be >= 1 but was " + bufferSize);
+            }
+            this.chars = new char[bufferSize];
+            this.bytes = ByteBuffer.allocate(bufferSize);
+        }
+
+        UniqueRun scan(Reader reader) throws IOException {
+            LongestSubstringWithoutRepeatingCharactersTest.LastIndexTable lastSeen = new LongestSubstringWithoutRepeatingCharactersTest.LastIndexTable();
+            long position = 0;
+            long left = 0;
+            long bestOffset = 0;
+            int bestLength = 0;
+
+            int read;
+            while ((read = reader.read(chars, 0, chars.length)) != -1) {
+                for (int i = 0; i < read; i++, position++) {
+                    char c = chars[i];
+                    left = Math.max(left, lastSeen.get(c));
+                    lastSeen.put(c, position + 1);
+                    if (position - left + 1 > bestLength) {
+                        bestLength = (int) (position - left + 1);
+                        bestOffset = left;
+                    }
+                }
+            }
+            return new UniqueRun(bestOffset, bestLength);
+        }
+
+        UniqueRun scan(ReadableByteChannel channel) throws IOException {
+            LongestSubstringWithoutRepeatingCharactersTest.LastIndexTable lastSeen = new LongestSubstringWithoutRepeatingCharactersTest.LastIndexTable();
+            long position = 0;
+            long left = 0;
+            long bestOffset = 0;
+            int bestLength = 0;
+
+            bytes.clear();
+            while (channel.read(bytes) != -1) {
+                bytes.flip();
+                while (bytes.hasRemaining()) {
+                    int b = bytes.get() & 0xFF;
+                    left = Math.max(left, lastSeen.get(b));
+                    lastSeen.put(b, position + 1);
+                    if (position - left + 1 > bestLength) {
+                        bestLength = (int) (position - left + 1);
+                        bestOffset = left;
+                    }
+                    position++;
+                }
+                bytes.clear();
+            }
+            return new UniqueRun(bestOffset, bestLength);
+        }
+    }
+
+    /**
+     * Parameterized test for known inputs, through both sources and several buffer sizes
+     */
+    @ParameterizedTest
+    @MethodSource("provideTestCases")
+    void testScanReportsLengthAndOffset(String input, int expectedLength, long expectedOffset) throws IOException {
+        for (int bufferSize : new int[]{1, 2, 3, 64, StreamingUniqueSubstringScanner.DEFAULT_BUFFER_SIZE}) {
+            // Given
+            StreamingUniqueSubstringScanner scanner = new StreamingUniqueSubstringScanner(bufferSize);
+
+            // When
+            UniqueRun fromReader = scanner.scan(new StringReader(input));
+            UniqueRun fromChannel = scanner.scan(Channels.newChannel(new ByteArrayInputStream(input.getBytes(StandardCharsets.ISO_8859_1))));
+
+            // Then
+            assertThat(fromReader)
+                .as("Reader scan of '%s' with buffer size %d", input, bufferSize)
+                .isEqualTo(new UniqueRun(expectedOffset, expectedLength));
+            assertThat(fromChannel)
+                .as("Channel scan of '%s' with buffer size %d", input, bufferSize)
+                .isEqualTo(new UniqueRun(expectedOffset, expectedLength));
+        }
+    }
+
+    /**
+     * Randomized differential test against the in-memory implementation and a brute-force offset
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {2, 26, 256, 3_000})
+    void testMatchesInMemoryImplementation(int alphabetSize) throws IOException {
+        // Given
+        Random random = new Random(alphabetSize);
+        LongestSubstringWithoutRepeatingCharactersTest inMemory = new LongestSubstringWithoutRepeatingCharactersTest();
+
+        for (int round = 0; round < 100; round++) {
+            char[] text = new char[random.nextInt(1_500)];
+            for (int i = 0; i < text.length; i++) {
+                text[i] = (char) ('!' + random.nextInt(alphabetSize));
+            }
+            String input = new String(text);
+            StreamingUniqueSubstringScanner scanner = new StreamingUniqueSubstringScanner(1 + random.nextInt(100));
+
+            // When
+            UniqueRun run = scanner.scan(new StringReader(input));
+
+            // Then
+            assertThat(run.length())
+                .as("Length for alphabet %d, round %d", alphabetSize, round)
+                .isEqualTo(inMemory.lengthOfLongestSubstringWithoutRepeatingCharacters(input));
+            assertThat(run.offset())
+                .as("Offset for alphabet %d, round %d", alphabetSize, round)
+                .isEqualTo(leftmostLongestOffset(input));
+        }
+    }
+
+    @Test
+    void testRejectsInvalidBufferSize() {
+        // When & Then
+        assertThatThrownBy(() -> new StreamingUniqueSubstringScanner(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Large input test: 200 MB of generated bytes are scanned without ever being in memory, and
+     * the scan itself allocates a constant amount regardless of the input length.
+     */
+    @Test
+    void testScansLargeStreamInConstantMemory() throws IOException {
+        // Given
+        long size = 200L << 20;
+        long plantedOffset = size - 1_000;
+        StreamingUniqueSubstringScanner scanner = new StreamingUniqueSubstringScanner();
+        scanner.scan(new GeneratedChannel(1L << 20, plantedOffset)); // warm-up
+
+        // When
+        long startTime = System.nanoTime();
+        long before = Measurements.threadAllocatedBytes();
+        UniqueRun run = scanner.scan(new GeneratedChannel(size, plantedOffset));
+        long allocated = Measurements.threadAllocatedBytes() - before;
+        long executionTime = System.nanoTime() - startTime;
+
+        // Then
+        assertThat(run).isEqualTo(new UniqueRun(plantedOffset, 256));
+        assertThat(allocated)
+            .as("Bytes allocated while scanning %d MB", size >> 20)
+            .isLessThan(16 * 1_024);
+        assertThat(executionTime)
+            .as("Execution time for %d MB", size >> 20)
+            .isLessThan(10_000_000_000L); // 10s in nanoseconds
+    }
+
+    private static long leftmostLongestOffset(String s) {
+        long bestOffset = 0;
+        int bestLength = 0;
+        for (int start = 0; start < s.length(); start++) {
+            Set<Character> seen = new HashSet<>();
+            int end = start;
+            while (end < s.length() && seen.add(s.charAt(end))) {
+                end++;
+            }
+            if (end - start > bestLength) {
+                bestLength = end - start;
+                bestOffset = start;
+            }
+        }
+        return bestOffset;
+    }
+
+    /**
+     * Byte source that is never materialized: bytes cycle through 8 values, except for one run of
+     * all 256 distinct bytes at plantedOffset.
+     */
+    private static final class GeneratedChannel implements ReadableByteChannel {
+
+        private final long size;
+        private final long plantedOffset;
+        private long position;
+
+        GeneratedChannel(long size, long plantedOffset) {
+            this.size = size;
+            this.plantedOffset = plantedOffset;
+        }
+
+        @Override
+        public int read(ByteBuffer destination) {
+            if (position == size) {
+                return -1;
+            }
+            int count = (int) Math.min(destination.remaining(), size - position);
+            for (int i = 0; i < count; i++, position++) {
+                long planted = position - plantedOffset;
+                destination.put((byte) (planted >= 0 && planted < 256 ? planted : position % 8));
+            }
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Provides test data for the parameterized test
+     */
+    static Stream<Arguments> provideTestCases() {
+        return Stream.of(
+            Arguments.of("", 0, 0L),
+            Arguments.of("a", 1, 0L),
+            Arguments.of("abcabcbb", 3, 0L),
+            Arguments.of("bbbbb", 1, 0L),
+            Arguments.of("pwwkew", 3, 2L),
+            Arguments.of("dvdf", 3, 1L),
+            Arguments.of("tmmzuxt", 5, 2L),
+            Arguments.of("abba", 2, 0L),
+            Arguments.of("aabbccddeeabcdefg", 7, 10L)
+        );
+    }
+}
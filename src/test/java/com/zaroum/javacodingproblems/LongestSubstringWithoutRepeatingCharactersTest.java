@@ -1,10 +1,12 @@
 package com.zaroum.javacodingproblems;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.Arguments;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
 import java.util.stream.Stream;
 import java.util.HashSet;
 import java.util.Set;
@@ -37,39 +39,120 @@ import static org.assertj.core.api.Assertions.assertThat;
  *
  * Algorithm:
  * 1. Use two pointers (left and right) to maintain a sliding window
- * 2. Use a HashSet to track characters in the current window
- * 3. Expand the window by moving right pointer and adding characters to the set
- * 4. If a duplicate is found, shrink the window from left until the duplicate is removed
+ * 2. Remember, for every character, the index right after its last occurrence
+ * 3. Expand the window by moving the right pointer
+ * 4. If the current character was last seen inside the window, jump left straight past that
+ *    occurrence instead of removing characters one by one
  * 5. Keep track of the maximum window size seen so far
  *
- * Time Complexity: O(n) - Each character is visited at most twice (once by right pointer, once by left pointer)
+ * Implementation Details:
+ * - The last-index table is a primitive long[256] for Latin-1 (which covers ASCII) plus a
+ *   {@link SparseCodePointTable} whose arrays are only allocated when a larger key shows up
+ * - Storing index + 1 makes 0 mean "never seen", so the tables need no initialization pass
+ * - No boxing and no allocation per character; the table is allocated once per call
+ * - {@link #lengthOfLongestSubstringWithoutRepeatingCodePoints(String)} applies the same window
+ *   to full Unicode code points, so a surrogate pair counts as one character
+ *
+ * Time Complexity: O(n) - Each character is visited exactly once
  * Space Complexity: O(min(m,n)) - Where m is the size of the character set and n is the length of the string
  * This test class validates the correctness of the implementation across various test cases.
  */
 public class LongestSubstringWithoutRepeatingCharactersTest {
 
+    /**
+     * Last-seen index (plus one) per key, 0 for keys never seen. Values are longs so the same
+     * table serves streams longer than 2^31 characters.
+     */
+    static final class LastIndexTable {
+
+        private static final int DENSE_SIZE = 256;
+
+        private final long[] dense = new long[DENSE_SIZE];
+        private final SparseCodePointTable sparse = new SparseCodePointTable();
+
+        long get(int key) {
+            return key < DENSE_SIZE ? dense[key] : sparse.get(key);
+        }
+
+        void put(int key, long value) {
+            if (key < DENSE_SIZE) {
+                dense[key] = value;
+            } else {
+                sparse.put(key, value);
+            }
+        }
+    }
+
     public int lengthOfLongestSubstringWithoutRepeatingCharacters(String s) {
         if (s == null || s.length() == 0) {
             return 0;
         }
         
-        Set<Character> charSet = new HashSet<>();
+        LastIndexTable lastSeen = new LastIndexTable();
         int left = 0;
         int maxLength = 0;
         
         for (int right = 0; right < s.length(); right++) {
             char currentChar = s.charAt(right);
             
-            // If character is already in the set, shrink window from left
+            // If the character was seen inside the window, jump left right past it
+            left = Math.max(left, (int) lastSeen.get(currentChar));
+            lastSeen.put(currentChar, right + 1);
+            
+            // Update maximum length
+            maxLength = Math.max(maxLength, right - left + 1);
+        }
+        
+        return maxLength;
+    }
+
+    /**
+     * Same sliding window over Unicode code points instead of UTF-16 chars.
+     *
+     * @param s the input string
+     * @return the length, in code points, of the longest substring without repeating code points
+     */
+    public int lengthOfLongestSubstringWithoutRepeatingCodePoints(String s) {
+        if (s == null || s.length() == 0) {
+            return 0;
+        }
+        
+        LastIndexTable lastSeen = new LastIndexTable();
+        int left = 0;
+        int maxLength = 0;
+        
+        for (int i = 0, right = 0; i < s.length(); right++) {
+            int codePoint = s.codePointAt(i);
+            i += Character.charCount(codePoint);
+            
+            left = Math.max(left, (int) lastSeen.get(codePoint));
+            lastSeen.put(codePoint, right + 1);
+            maxLength = Math.max(maxLength, right - left + 1);
+        }
+        
+        return maxLength;
+    }
+
+    /**
+     * Previous implementation, kept as the reference for differential tests and the benchmark:
+     * boxes every char into a HashSet and moves left one step at a time.
+     */
+    private int lengthOfLongestSubstringWithHashSet(String s) {
+        if (s == null || s.length() == 0) {
+            return 0;
+        }
+        
+        Set<Character> charSet = new HashSet<>();
+        int left = 0;
+        int maxLength = 0;
+        
+        for (int right = 0; right < s.length(); right++) {
+            char currentChar = s.charAt(right);
             while (charSet.contains(currentChar)) {
                 charSet.remove(s.charAt(left));
                 left++;
             }
-            
-            // Add current character to the set
             charSet.add(currentChar);
-            
-            // Update maximum length
             maxLength = Math.max(maxLength, right - left + 1);
         }
         
@@ -108,6 +191,118 @@ public class LongestSubstringWithoutRepeatingCharactersTest {
             .isEqualTo(expectedLength);
     }
 
+    /**
+     * Randomized differential test against the HashSet implementation, covering the dense
+     * Latin-1 table, the sparse map and unpaired surrogates
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {4, 26, 256, 5_000, 65_536})
+    void testMatchesHashSetImplementation(int alphabetSize) {
+        // Given
+        Random random = new Random(alphabetSize);
+
+        for (int round = 0; round < 200; round++) {
+            char[] chars = new char[random.nextInt(2_000)];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = (char) random.nextInt(alphabetSize);
+            }
+            String input = new String(chars);
+
+            // When
+            int actualLength = lengthOfLongestSubstringWithoutRepeatingCharacters(input);
+
+            // Then
+            assertThat(actualLength)
+                .as("Alphabet of %d chars, round %d", alphabetSize, round)
+                .isEqualTo(lengthOfLongestSubstringWithHashSet(input));
+        }
+    }
+
+    /**
+     * Parameterized test for the code point variant: supplementary characters count once
+     */
+    @ParameterizedTest
+    @MethodSource("provideCodePointTestCases")
+    void testLengthOfLongestSubstringWithoutRepeatingCodePoints(String input, int expectedLength) {
+        // When
+        int actualLength = lengthOfLongestSubstringWithoutRepeatingCodePoints(input);
+        
+        // Then
+        assertThat(actualLength)
+            .as("Code point implementation - Length of longest substring without repeating code points for input: '%s'", input)
+            .isEqualTo(expectedLength);
+    }
+
+    /**
+     * Allocation test: the per-call allocation is the table, whatever the input length
+     */
+    @Test
+    void testNoAllocationPerCharacter() {
+        // Given
+        String latin1 = randomString(1_000_000, 0, 256, 1);
+        String cjk = randomString(1_000_000, 0x4E00, 0x4E00 + 500, 2);
+        for (int i = 0; i < 20; i++) {
+            lengthOfLongestSubstringWithoutRepeatingCharacters(latin1); // warm-up
+            lengthOfLongestSubstringWithoutRepeatingCharacters(cjk);
+        }
+
+        // When
+        long before = Measurements.threadAllocatedBytes();
+        lengthOfLongestSubstringWithoutRepeatingCharacters(latin1);
+        long latin1Bytes = Measurements.threadAllocatedBytes() - before;
+
+        before = Measurements.threadAllocatedBytes();
+        lengthOfLongestSubstringWithoutRepeatingCharacters(cjk);
+        long cjkBytes = Measurements.threadAllocatedBytes() - before;
+
+        // Then
+        assertThat(latin1Bytes)
+            .as("Bytes allocated for 1M Latin-1 chars")
+            .isLessThan(4_096);
+        assertThat(cjkBytes)
+            .as("Bytes allocated for 1M chars over 500 CJK ideographs")
+            .isLessThan(4_096 + 64 * 500); // grows with distinct chars, not with the input
+    }
+
+    /**
+     * Performance test comparing the last-index table with the HashSet implementation it replaces
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {26, 256, 5_000})
+    void testOutperformsHashSetImplementation(int alphabetSize) {
+        // Given
+        String input = randomString(2_000_000, 'a', 'a' + alphabetSize, alphabetSize);
+        for (int i = 0; i < 5; i++) {
+            lengthOfLongestSubstringWithoutRepeatingCharacters(input.substring(0, 100_000)); // warm-up
+            lengthOfLongestSubstringWithHashSet(input.substring(0, 100_000));
+        }
+
+        // When
+        long tableStart = System.nanoTime();
+        int tableLength = lengthOfLongestSubstringWithoutRepeatingCharacters(input);
+        long tableTime = System.nanoTime() - tableStart;
+
+        long hashSetStart = System.nanoTime();
+        int hashSetLength = lengthOfLongestSubstringWithHashSet(input);
+        long hashSetTime = System.nanoTime() - hashSetStart;
+
+        // Then
+        assertThat(tableLength).isEqualTo(hashSetLength);
+        assertThat(tableTime)
+            .as("Last-index table (%d us) vs HashSet (%d us) for %d distinct chars",
+                tableTime / 1_000, hashSetTime / 1_000, alphabetSize)
+            .isLessThan(hashSetTime);
+    }
+
+    private static String randomString(int length, int fromChar, int toChar, long seed) {
+        Random random = new Random(seed);
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) (fromChar + random.nextInt(toChar - fromChar));
+        }
+        return new String(chars);
+    }
+
     /**
      * Provides test data for the parameterized test
      * @return Stream of Arguments containing input string and expected length
@@ -142,4 +337,21 @@ public class LongestSubstringWithoutRepeatingCharactersTest {
             Arguments.of("abcabcdefg", 7)  // "abcdefg"
         );
     }
+
+    /**
+     * Provides test data for the code point variant
+     * @return Stream of Arguments containing input string and expected length in code points
+     */
+    static Stream<Arguments> provideCodePointTestCases() {
+        return Stream.of(
+            Arguments.of(null, 0),
+            Arguments.of("", 0),
+            Arguments.of("abcabcbb", 3),
+            Arguments.of("\uD83D\uDE00", 1),                             // one emoji, two chars
+            Arguments.of("\uD83D\uDE00\uD83D\uDE01\uD83D\uDE00", 2),         // emojis sharing a high surrogate
+            Arguments.of("a\uD83D\uDE00b\uD83D\uDE01c", 5),                // mixed BMP and supplementary
+            Arguments.of("\u00E9t\u00E9", 2),                            // Latin-1 accents
+            Arguments.of("\u4E2D\u6587\u4E2D\u6587\u5B57", 3)                 // CJK ideographs
+        );
+    }
 }
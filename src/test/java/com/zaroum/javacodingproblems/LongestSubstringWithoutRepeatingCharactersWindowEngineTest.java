@@ -0,0 +1,390 @@
+package com.zaroum.javacodingproblems;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Problem: Longest Window Under a Character Constraint
+ *
+ * Generalizes {@link LongestSubstringWithoutRepeatingCharactersTest}: find the length of the
+ * longest substring that satisfies a constraint on its character counts, for example:
+ * - no repeating characters (the original problem)
+ * - at most K distinct characters
+ * - every character at most M times
+ *
+ * Examples:
+ * - noRepeats(),           "pwwkew"   → 3 ("wke")
+ * - atMostDistinct(2),     "eceba"    → 3 ("ece")
+ * - atMostOccurrences(2),  "bcbbbcba" → 4 ("bcba")
+ *
+ * Algorithm: sliding window with primitive counters
+ * 1. Move the right pointer, increment the count of the new character and notify the constraint
+ *    of the new count
+ * 2. While the constraint is violated, decrement the count of the leftmost character, notify the
+ *    constraint and move the left pointer
+ * 3. Keep track of the maximum window size seen so far
+ *
+ * Works for every constraint that stays satisfied when the window shrinks (it is monotone), which
+ * is what makes the two-pointer loop correct.
+ *
+ * Implementation Details:
+ * - Counts live in a primitive int[256] for Latin-1 plus a {@link SparseCodePointTable} for larger
+ *   chars; no boxing
+ * - Constraints only see count transitions (0 → 1, M → M + 1, ...) and keep O(1) aggregates such
+ *   as "distinct keys" or "keys over the limit", so each check is O(1)
+ * - The engine empties its counters by walking the final window, so one engine is reused across
+ *   calls without allocating; an engine is not thread-safe
+ *
+ * Time Complexity: O(n) - Each character enters and leaves the window once, O(1) per transition
+ * Space Complexity: O(min(m,n)) - Where m is the size of the character set
+ */
+public class LongestSubstringWithoutRepeatingCharactersWindowEngineTest {
+
+    /**
+     * Monotone constraint on the character counts of a window, driven by count transitions.
+     */
+    interface WindowConstraint {
+
+        /**
+         * A character was added and its count in the window is now {@code count}.
+         */
+        void added(int count);
+
+        /**
+         * A character was removed and its count in the window is now {@code count}.
+         */
+        void removed(int count);
+
+        boolean isSatisfied();
+
+        void reset();
+
+        static WindowConstraint noRepeats() {
+            return atMostOccurrences(1);
+        }
+
+        static WindowConstraint atMostOccurrences(int maxOccurrences) {
+            if (maxOccurrences < 1) {
+                throw new IllegalArgumentException("maxOccurrences must be >= 1 but was " + maxOccurrences);
+            }
+            return new WindowConstraint() {
+                private int keysOverLimit;
+
+                @Override
+                public void added(int count) {
+                    if (count == maxOccurrences + 1) {
+                        keysOverLimit++;
+                    }
+                }
+
+                @Override
+                public void removed(int count) {
+                    if (count == maxOccurrences) {
+                        keysOverLimit--;
+                    }
+                }
+
+                @Override
+                public boolean isSatisfied() {
+                    return keysOverLimit == 0;
+                }
+
+                @Override
+                public void reset() {
+                    keysOverLimit = 0;
+                }
+            };
+        }
+
+        static WindowConstraint atMostDistinct(int maxDistinct) {
+            if (maxDistinct < 0) {
+                throw new IllegalArgumentException("maxDistinct must be >= 0 but was " + maxDistinct);
+            }
+            return new WindowConstraint() {
+                private int distinct;
+
+                @Override
+                public void added(int count) {
+                    if (count == 1) {
+                        distinct++;
+                    }
+                }
+
+                @Override
+                public void removed(int count) {
+                    if (count == 0) {
+                        distinct--;
+                    }
+                }
+
+                @Override
+                public boolean isSatisfied() {
+                    return distinct <= maxDistinct;
+                }
+
+                @Override
+                public void reset() {
+                    distinct = 0;
+                }
+            };
+        }
+
+        static WindowConstraint allOf(WindowConstraint... constraints) {
+            WindowConstraint[] all = constraints.clone();
+            return new WindowConstraint() {
+                @Override
+                public void added(int count) {
+                    for (WindowConstraint constraint : all) {
+                        constraint.added(count);
+                    }
+                }
+
+                @Override
+                public void removed(int count) {
+                    for (WindowConstraint constraint : all) {
+                        constraint.removed(count);
+                    }
+                }
+
+                @Override
+                public boolean isSatisfied() {
+                    for (WindowConstraint constraint : all) {
+                        if (!constraint.isSatisfied()) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }
+
+                @Override
+                public void reset() {
+                    for (WindowConstraint constraint : all) {
+                        constraint.reset();
+                    }
+                }
+            };
+        }
+    }
+
+    /**
+     * Per-character counts: dense for Latin-1, open addressing for larger chars.
+     */
+    static final class CharCounter {
+
+        private static final int DENSE_SIZE = 256;
+
+        private final int[] dense = new int[DENSE_SIZE];
+        private final SparseCodePointTable sparse = new SparseCodePointTable();
+
+        int increment(int key) {
+            return key < DENSE_SIZE ? ++dense[key] : (int) sparse.add(key, 1);
+        }
+
+        int decrement(int key) {
+            return key < DENSE_SIZE ? --dense[key] : (int) sparse.add(key, -1);
+        }
+    }
+
+    /**
+     * Two-pointer window loop shared by every constraint.
+     */
+    static final class SlidingWindowEngine {
+
+        private final WindowConstraint constraint;
+        private final CharCounter counts = new CharCounter();
+
+        SlidingWindowEngine(WindowConstraint constraint) {
+            this.constraint = constraint;
+        }
+
+        int longestWindow(CharSequence s) {
+            if (s == null || s.length() == 0) {
+                return 0;
+            }
+            constraint.reset();
+            int left = 0;
+            int maxLength = 0;
+
+            for (int right = 0; right < s.length(); right++) {
+                constraint.added(counts.increment(s.charAt(right)));
+                while (!constraint.isSatisfied()) {
+                    constraint.removed(counts.decrement(s.charAt(left)));
+                    left++;
+                }
+                maxLength = Math.max(maxLength, right - left + 1);
+            }
+
+            // Empty the counters so the next call starts from zero without allocating
+            for (int i = left; i < s.length(); i++) {
+                counts.decrement(s.charAt(i));
+            }
+            return maxLength;
+        }
+    }
+
+    /**
+     * Parameterized test for known inputs of every configuration
+     */
+    @ParameterizedTest
+    @MethodSource("provideTestCases")
+    void testLongestWindow(String description, WindowConstraint constraint, String input, int expectedLength) {
+        // When
+        int actualLength = new SlidingWindowEngine(constraint).longestWindow(input);
+
+        // Then
+        assertThat(actualLength)
+            .as("%s for input '%s'", description, input)
+            .isEqualTo(expectedLength);
+    }
+
+    /**
+     * The no-repeat configuration must match lengthOfLongestSubstringWithoutRepeatingCharacters
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {2, 26, 256, 5_000})
+    void testNoRepeatsMatchesOriginalProblem(int alphabetSize) {
+        // Given
+        Random random = new Random(alphabetSize);
+        LongestSubstringWithoutRepeatingCharactersTest original = new LongestSubstringWithoutRepeatingCharactersTest();
+        SlidingWindowEngine engine = new SlidingWindowEngine(WindowConstraint.noRepeats());
+
+        for (int round = 0; round < 200; round++) {
+            String input = randomText(random, random.nextInt(1_000), alphabetSize);
+
+            // When
+            int actualLength = engine.longestWindow(input);
+
+            // Then
+            assertThat(actualLength)
+                .as("Alphabet %d, round %d", alphabetSize, round)
+                .isEqualTo(original.lengthOfLongestSubstringWithoutRepeatingCharacters(input));
+        }
+    }
+
+    /**
+     * Randomized differential test of reused engines against a brute force over all substrings
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3})
+    void testConstraintsMatchBruteForce(int limit) {
+        // Given
+        Random random = new Random(limit * 101L);
+        SlidingWindowEngine distinctEngine = new SlidingWindowEngine(WindowConstraint.atMostDistinct(limit));
+        SlidingWindowEngine occurrencesEngine = new SlidingWindowEngine(WindowConstraint.atMostOccurrences(limit + 1));
+        SlidingWindowEngine combinedEngine = new SlidingWindowEngine(
+            WindowConstraint.allOf(WindowConstraint.atMostDistinct(limit + 1), WindowConstraint.atMostOccurrences(limit + 1)));
+
+        for (int round = 0; round < 200; round++) {
+            String input = randomText(random, random.nextInt(120), 1 + random.nextInt(6)) + (round % 2 == 0 ? "中文中" : "");
+
+            // When & Then
+            assertThat(distinctEngine.longestWindow(input))
+                .as("At most %d distinct in '%s'", limit, input)
+                .isEqualTo(bruteForce(input, counts -> counts.size() <= limit));
+            assertThat(occurrencesEngine.longestWindow(input))
+                .as("At most %d occurrences in '%s'", limit + 1, input)
+                .isEqualTo(bruteForce(input, counts -> counts.values().stream().allMatch(c -> c <= limit + 1)));
+            assertThat(combinedEngine.longestWindow(input))
+                .as("At most %d distinct and %d occurrences in '%s'", limit + 1, limit + 1, input)
+                .isEqualTo(bruteForce(input, counts -> counts.size() <= limit + 1 && counts.values().stream().allMatch(c -> c <= limit + 1)));
+        }
+    }
+
+    @Test
+    void testRejectsInvalidLimits() {
+        // When & Then
+        assertThatThrownBy(() -> WindowConstraint.atMostOccurrences(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WindowConstraint.atMostDistinct(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Performance test: 5M chars through each configuration must stay linear
+     */
+    @ParameterizedTest
+    @MethodSource("providePerformanceTestCases")
+    void testEnginePerformance(String description, WindowConstraint constraint) {
+        // Given
+        String input = randomText(new Random(5), 5_000_000, 40);
+        SlidingWindowEngine engine = new SlidingWindowEngine(constraint);
+        engine.longestWindow(input.substring(0, 100_000)); // warm-up
+
+        // When
+        long startTime = System.nanoTime();
+        int length = engine.longestWindow(input);
+        long executionTime = System.nanoTime() - startTime;
+
+        // Then
+        assertThat(length).isPositive();
+        assertThat(executionTime)
+            .as("%s over 5M chars", description)
+            .isLessThan(1_000_000_000L); // 1s in nanoseconds
+    }
+
+    private static int bruteForce(String s, Predicate<Map<Character, Integer>> constraint) {
+        int best = 0;
+        for (int i = 0; i < s.length(); i++) {
+            Map<Character, Integer> counts = new HashMap<>();
+            for (int j = i; j < s.length(); j++) {
+                counts.merge(s.charAt(j), 1, Integer::sum);
+                if (!constraint.test(counts)) {
+                    break;
+                }
+                best = Math.max(best, j - i + 1);
+            }
+        }
+        return best;
+    }
+
+    private static String randomText(Random random, int length, int alphabetSize) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(alphabetSize));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Provides test data for the parameterized test
+     */
+    static Stream<Arguments> provideTestCases() {
+        return Stream.of(
+            Arguments.of("No repeats", WindowConstraint.noRepeats(), null, 0),
+            Arguments.of("No repeats", WindowConstraint.noRepeats(), "abcabcbb", 3),
+            Arguments.of("No repeats", WindowConstraint.noRepeats(), "pwwkew", 3),
+            Arguments.of("No repeats", WindowConstraint.noRepeats(), "tmmzuxt", 5),
+            Arguments.of("At most 2 distinct", WindowConstraint.atMostDistinct(2), "eceba", 3),
+            Arguments.of("At most 2 distinct", WindowConstraint.atMostDistinct(2), "ccaabbb", 5),
+            Arguments.of("At most 1 distinct", WindowConstraint.atMostDistinct(1), "aabbbcc", 3),
+            Arguments.of("At most 0 distinct", WindowConstraint.atMostDistinct(0), "abc", 0),
+            Arguments.of("At most 2 occurrences", WindowConstraint.atMostOccurrences(2), "bcbbbcba", 4),
+            Arguments.of("At most 2 occurrences", WindowConstraint.atMostOccurrences(2), "aaaa", 2),
+            Arguments.of("At most 3 occurrences", WindowConstraint.atMostOccurrences(3), "aabbaabb", 6),
+            Arguments.of("At most 2 distinct, each at most 2 times",
+                WindowConstraint.allOf(WindowConstraint.atMostDistinct(2), WindowConstraint.atMostOccurrences(2)), "aabbccab", 4)
+        );
+    }
+
+    /**
+     * Provides one constraint of each kind for the performance test
+     */
+    static Stream<Arguments> providePerformanceTestCases() {
+        return Stream.of(
+            Arguments.of("No repeats", WindowConstraint.noRepeats()),
+            Arguments.of("At most 10 distinct", WindowConstraint.atMostDistinct(10)),
+            Arguments.of("At most 3 occurrences", WindowConstraint.atMostOccurrences(3)),
+            Arguments.of("Combined", WindowConstraint.allOf(WindowConstraint.atMostDistinct(20), WindowConstraint.atMostOccurrences(2)))
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package com.zaroum.javacodingproblems;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Timing and allocation helpers shared by the performance tests.
+ */
+final class Measurements {
+
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Measurements() {
+    }
+
+    /**
+     * Runs task the given number of times and keeps the fastest run, so that a GC pause or a busy
+     * neighbour does not decide the comparison.
+     *
+     * @return the shortest wall-clock time of one run, in nanoseconds
+     */
+    static long bestNanos(int rounds, Runnable task) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            task.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    /**
+     * @return the bytes allocated so far by the current thread; the difference between two calls
+     *         is what the code in between allocated
+     */
+    static long threadAllocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+}
@@ -0,0 +1,116 @@
+package com.zaroum.javacodingproblems;
+
+import java.util.Arrays;
+
+/**
+ * Primitive open-addressing map from non-negative int keys (chars or code points) to long values,
+ * for the keys that fall outside the dense Latin-1/BMP arrays of the character tables. Absent keys
+ * read as 0; the arrays are only allocated on the first insertion.
+ *
+ * Keys are stored as key + 1 so that 0 marks an empty slot, probing is linear and the table
+ * doubles before it gets more than half full.
+ */
+final class SparseCodePointTable {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] keys; // key + 1, 0 marks an empty slot
+    private long[] values;
+    private int size;
+
+    /**
+     * @return the value of key, or 0 when key is absent
+     */
+    long get(int key) {
+        if (size == 0) {
+            return 0;
+        }
+        int slot = slot(key);
+        return keys[slot] == 0 ? 0 : values[slot];
+    }
+
+    void put(int key, long value) {
+        int slot = insert(key); // may resize, so read the array afterwards
+        values[slot] = value;
+    }
+
+    /**
+     * @return true if key was absent and now maps to value, false if key was left unchanged
+     */
+    boolean putIfAbsent(int key, long value) {
+        int before = size;
+        int slot = insert(key);
+        if (size == before) {
+            return false;
+        }
+        values[slot] = value;
+        return true;
+    }
+
+    /**
+     * Adds delta to the value of key, an absent key counting as 0.
+     *
+     * @return the new value
+     */
+    long add(int key, long delta) {
+        int slot = insert(key);
+        return values[slot] += delta;
+    }
+
+    void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, 0);
+            size = 0;
+        }
+    }
+
+    /**
+     * @return the slot holding key, claimed (with value 0) if key was absent
+     */
+    private int insert(int key) {
+        if (keys == null) {
+            keys = new int[INITIAL_CAPACITY];
+            values = new long[INITIAL_CAPACITY];
+        } else if (2 * (size + 1) > keys.length) {
+            resize();
+        }
+        int slot = slot(key);
+        if (keys[slot] == 0) {
+            keys[slot] = key + 1;
+            values[slot] = 0;
+            size++;
+        }
+        return slot;
+    }
+
+    /**
+     * @return the slot holding key, or the empty slot where it would be inserted
+     */
+    private int slot(int key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != 0 && keys[slot] != key + 1) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new long[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slot(oldKeys[i] - 1);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
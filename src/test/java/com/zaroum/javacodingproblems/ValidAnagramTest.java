@@ -5,9 +5,6 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,17 +26,18 @@ import static org.assertj.core.api.Assertions.assertThat;
  * Algorithm:
  * 1. Handle edge cases (null strings, different lengths)
  * 2. Check if strings are identical (optimization)
- * 3. Create character frequency maps for both strings
- * 4. Compare frequency maps to ensure same character counts
+ * 3. Count the characters of the first string in a histogram
+ * 4. Remove the characters of the second string, failing as soon as a count would go negative
  * 
  * Implementation Details:
- * - Uses Java 8 Streams with groupingBy and counting collectors
+ * - Uses the reusable primitive {@link CharacterHistogramTest.CharacterHistogram} of the current
+ *   thread instead of two boxed frequency maps
  * - Case-sensitive comparison (A ≠ a)
  * - Handles all Unicode characters including special symbols
  * - Short-circuit optimization for different lengths
  * 
  * Time Complexity: O(n) where n is the length of the strings
- * Space Complexity: O(k) where k is the number of unique characters
+ * Space Complexity: O(1) per call - The per-thread histogram is reused
  */
 @DisplayName("Valid Anagram Tests")
 public class ValidAnagramTest {
@@ -58,19 +56,8 @@ public class ValidAnagramTest {
             return true;
         }
 
-        Map<Character, Long> map1 = countsByCharacter(str1);
-        Map<Character, Long> map2 = countsByCharacter(str2);
-
-        for(Map.Entry<Character, Long> entry : map1.entrySet()){
-            if(!map2.containsKey(entry.getKey()) || !map2.get(entry.getKey()).equals(entry.getValue())){
-                return false;
-            }
-        }
-        return true;
-    }
-
-    private static Map<Character, Long> countsByCharacter(String str) {
-        return str.chars().mapToObj(c -> (char) c).collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        CharacterHistogramTest.CharacterHistogram histogram = CharacterHistogramTest.CharacterHistogram.threadLocal().add(str1);
+        return histogram.removeAll(str2) && histogram.totalCount() == 0;
     }
 
     @ParameterizedTest
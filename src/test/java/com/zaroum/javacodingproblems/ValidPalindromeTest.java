@@ -46,7 +46,7 @@ import static org.assertj.core.api.Assertions.*;
 public class ValidPalindromeTest {
 
 
-    private boolean checkIsValidPalindrome(String str1) {
+    boolean checkIsValidPalindrome(String str1) {
         if(str1 == null || str1.isEmpty()){
             return false;
         }